@@ -0,0 +1,32 @@
+package zer0g.fusion.data.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Entry point of the benchmarks uber-jar.  Runs the selected suites (all by default) with the GC/allocation profiler
+ * enabled, and writes JSON results to {@code results/<suite-or-all>.json}, the location of the checked-in reference
+ * results.  Any other JMH command-line option can be supplied as usual.
+ */
+public final class Benchmarks
+{
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        var cmdline = new CommandLineOptions(args);
+        var name = cmdline.getIncludes().isEmpty() ? "all" : String.join("-", cmdline.getIncludes());
+        new File("results").mkdirs();
+        var options = new OptionsBuilder().parent(cmdline).addProfiler(GCProfiler.class)
+                                          .resultFormat(ResultFormatType.JSON)
+                                          .result("results/" + name.replaceAll("\\W", "_") + ".json").build();
+        new Runner(options).run();
+    }
+
+    private Benchmarks() {
+    }
+}
@@ -0,0 +1,91 @@
+package zer0g.fusion.data.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zer0g.fusion.data.Blob;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Blob} reader/writer streams and Base64 (JSON) encode/decode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlobBenchmark
+{
+    @Param({"1024", "1048576"})
+    int length;
+
+    byte[] content;
+    Blob blob;
+    String json;
+    byte[] chunk;
+
+    @Setup
+    public void setup() {
+        content = new byte[length];
+        new Random(42).nextBytes(content);
+        blob = new Blob(content);
+        blob.ensureReadonly();
+        json = blob.toString();
+        chunk = new byte[8192];
+    }
+
+    @Benchmark
+    public long readStream() throws IOException {
+        long total = 0;
+        try (var in = blob.readerStream()) {
+            for (int n; (n = in.read(chunk, 0, chunk.length)) > 0; ) {
+                total += n;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long readChannel() throws IOException {
+        try (var in = blob.readerChannel()) {
+            var buffer = ByteBuffer.allocate(chunk.length);
+            long total = 0;
+            for (int n; (n = in.read(buffer.clear())) > 0; ) {
+                total += n;
+            }
+            return total;
+        }
+    }
+
+    @Benchmark
+    public Blob writeStream() throws IOException {
+        var out = new Blob(length);
+        try (var stream = out.writerStream()) {
+            stream.write(content, 0, content.length);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public String encode() {
+        return blob.toString();
+    }
+
+    @Benchmark
+    public Blob decode() {
+        return new Blob(json);
+    }
+}
@@ -0,0 +1,23 @@
+package zer0g.fusion.data.bench;
+
+import zer0g.fusion.data.FoField;
+import zer0g.fusion.data.FoType;
+import zer0g.fusion.data.FusionBean;
+
+@FoType
+public interface Customer extends FusionBean
+{
+    @FoField(isKey = true)
+    long getNumber();
+
+    Customer setNumber(long value);
+
+    @FoField(range = "1,100")
+    String getName();
+
+    Customer setName(String value);
+
+    String getEmail();
+
+    Customer setEmail(String value);
+}
@@ -0,0 +1,76 @@
+package zer0g.fusion.data.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zer0g.fusion.data.FusionRecordObject;
+import zer0g.fusion.data.FusionRecordObjectType;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Field get/set through the generated bean and record fob-types.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FobAccessBenchmark
+{
+    Customer readonlyBean;
+    Customer writableBean;
+    FusionRecordObject<Tick> readonlyTick;
+    FusionRecordObject<Tick> writableTick;
+    long counter;
+
+    @Setup
+    public void setup() {
+        readonlyBean = Payloads.customerType().make().setNumber(7).setName("Ramta Jogi").setEmail("rj@example.com");
+        readonlyBean.ensureReadonly();
+        writableBean = (Customer) readonlyBean.cloneForWrite();
+        var tick = new Tick("ACME", Instant.ofEpochSecond(1_714_579_200L), 101.25, 500);
+        readonlyTick = FusionRecordObject.from(tick);
+        readonlyTick.ensureReadonly();
+        writableTick = FusionRecordObjectType.of(Tick.class).make().set(tick);
+    }
+
+    @Benchmark
+    public String beanGet() {
+        return readonlyBean.getName();
+    }
+
+    @Benchmark
+    public Customer beanSet() {
+        return writableBean.setEmail(++counter % 2 == 0 ? "a@example.com" : "b@example.com");
+    }
+
+    @Benchmark
+    public Object beanGetByName() {
+        return readonlyBean.get("email");
+    }
+
+    @Benchmark
+    public Object recordGet() {
+        return readonlyTick.get(2);
+    }
+
+    @Benchmark
+    public FusionRecordObject<Tick> recordSet() {
+        return (FusionRecordObject<Tick>) writableTick.set(3, ++counter);
+    }
+
+    @Benchmark
+    public Tick recordExtract() {
+        return writableTick.extract();
+    }
+}
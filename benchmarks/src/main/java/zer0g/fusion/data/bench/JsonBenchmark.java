@@ -0,0 +1,56 @@
+package zer0g.fusion.data.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zer0g.fusion.data.FusionBeanObjectType;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link zer0g.fusion.data.JsonReader} / {@link zer0g.fusion.data.JsonWriter} round-trips of an {@link Order}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark
+{
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    Payloads.Size size;
+
+    FusionBeanObjectType<Order> orderType;
+    Order order;
+    String json;
+
+    @Setup
+    public void setup() {
+        orderType = Payloads.orderType();
+        order = Payloads.order(size);
+        json = order.toJsonString();
+    }
+
+    @Benchmark
+    public Order read() throws IOException {
+        return orderType.read(json);
+    }
+
+    @Benchmark
+    public String write() throws IOException {
+        var writer = new StringWriter(json.length());
+        order.writeTo(writer);
+        return writer.toString();
+    }
+}
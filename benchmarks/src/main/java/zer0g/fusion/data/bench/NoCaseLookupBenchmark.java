@@ -0,0 +1,67 @@
+package zer0g.fusion.data.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zer0g.fusion.data.FusionBeanObjectType;
+import zer0g.fusion.data.FusionFieldSchema;
+import zer0g.fusion.data.NoCaseString;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static zer0g.fusion.data.NoCaseString.nocase;
+
+/**
+ * {@link NoCaseString}-keyed lookups: a readonly FusionMap attribute bag, and schema field resolution.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoCaseLookupBenchmark
+{
+    @Param({"MEDIUM", "LARGE"})
+    Payloads.Size size;
+
+    FusionBeanObjectType<Order> orderType;
+    Map<NoCaseString, String> attrs;
+    NoCaseString[] cachedKeys;
+    int i;
+
+    @Setup
+    public void setup() {
+        orderType = Payloads.orderType();
+        attrs = Payloads.order(size).getAttrs();
+        cachedKeys = new NoCaseString[size.attrs];
+        for (int k = 0; k < size.attrs; k++) {
+            cachedKeys[k] = nocase("ATTR" + k);
+            cachedKeys[k].hashCode();
+        }
+    }
+
+    @Benchmark
+    public String mapGetCachedKey() {
+        return attrs.get(cachedKeys[i++ % cachedKeys.length]);
+    }
+
+    @Benchmark
+    public String mapGetNewKey() {
+        return attrs.get(nocase(cachedKeys[i++ % cachedKeys.length].original()));
+    }
+
+    @Benchmark
+    public FusionFieldSchema schemaField() {
+        return orderType.schema().field(nocase("tradeDate"));
+    }
+}
@@ -0,0 +1,69 @@
+package zer0g.fusion.data.bench;
+
+import zer0g.fusion.data.FoField;
+import zer0g.fusion.data.FoType;
+import zer0g.fusion.data.FusionBean;
+import zer0g.fusion.data.NoCaseString;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A "realistic" benchmark payload: key, scalars of the common types, a nested fob, a time-series list, and an
+ * attribute bag.
+ */
+@FoType(fieldOrder = {"id"})
+public interface Order extends FusionBean
+{
+    enum Status
+    {
+        NEW,
+        OPEN,
+        FILLED,
+        CANCELLED
+    }
+
+    @FoField(isKey = true, range = "1,40")
+    String getId();
+
+    Order setId(String value);
+
+    @FoField(isNullable = false)
+    Status getStatus();
+
+    Order setStatus(Status value);
+
+    Customer getCustomer();
+
+    Order setCustomer(Customer value);
+
+    LocalDate getTradeDate();
+
+    Order setTradeDate(LocalDate value);
+
+    Instant getCreated();
+
+    Order setCreated(Instant value);
+
+    @FoField(range = "0")
+    BigDecimal getAmount();
+
+    Order setAmount(BigDecimal value);
+
+    int getPriority();
+
+    Order setPriority(int value);
+
+    @FoField(itemType = Long.class)
+    List<Long> getSamples();
+
+    Order setSamples(List<Long> value);
+
+    @FoField(itemType = String.class)
+    Map<NoCaseString, String> getAttrs();
+
+    Order setAttrs(Map<NoCaseString, String> value);
+}
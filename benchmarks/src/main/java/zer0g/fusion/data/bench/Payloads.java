@@ -0,0 +1,67 @@
+package zer0g.fusion.data.bench;
+
+import zer0g.fusion.data.Fusion;
+import zer0g.fusion.data.FusionBeanObjectType;
+import zer0g.fusion.data.NoCaseString;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Deterministic payloads shared by the benchmark suites.
+ */
+final class Payloads
+{
+    enum Size
+    {
+        SMALL(3, 3),
+        MEDIUM(100, 50),
+        LARGE(10_000, 1_000);
+
+        final int samples;
+        final int attrs;
+
+        Size(int samples, int attrs) {
+            this.samples = samples;
+            this.attrs = attrs;
+        }
+    }
+
+    /**
+     * Not a static constant: the fob-type generator loads (and initializes) every class in the module before the
+     * fob-types exist.
+     */
+    static FusionBeanObjectType<Order> orderType() {
+        return (FusionBeanObjectType<Order>) Fusion.fobType(Order.class);
+    }
+
+    static FusionBeanObjectType<Customer> customerType() {
+        return (FusionBeanObjectType<Customer>) Fusion.fobType(Customer.class);
+    }
+
+    static Order order(Size size) {
+        List<Long> samples = new ArrayList<>(size.samples);
+        for (int i = 0; i < size.samples; i++) {
+            samples.add(1_700_000_000_000L + i * 37L);
+        }
+        Map<NoCaseString, String> attrs = new LinkedHashMap<>();
+        for (int i = 0; i < size.attrs; i++) {
+            attrs.put(NoCaseString.nocase("attr" + i), "value-" + i);
+        }
+        var customer = customerType().make().setNumber(42).setName("Davie Jones").setEmail("davie@example.com");
+        var order = orderType().make();
+        order.setId("ORD-000123").setStatus(Order.Status.OPEN).setCustomer(customer)
+             .setTradeDate(LocalDate.of(2024, 5, 1)).setCreated(Instant.ofEpochSecond(1_714_579_200L))
+             .setAmount(new BigDecimal("1234.56")).setPriority(3).setSamples(samples).setAttrs(attrs);
+        order.ensureReadonly();
+        return order;
+    }
+
+    private Payloads() {
+    }
+}
@@ -0,0 +1,11 @@
+package zer0g.fusion.data.bench;
+
+import zer0g.fusion.data.FoField;
+import zer0g.fusion.data.FoType;
+
+import java.time.Instant;
+
+@FoType
+public record Tick(@FoField(isKey = true) String symbol, Instant time, double price, long volume)
+{
+}
@@ -0,0 +1,59 @@
+package zer0g.fusion.data.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zer0g.fusion.data.FusionBeanObjectType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of state transitions: cloneForWrite + one set + doneWrite (validation), versus the readonly builder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark
+{
+    FusionBeanObjectType<Order> orderType;
+    Order order;
+    int priority;
+
+    @Setup
+    public void setup() {
+        orderType = Payloads.orderType();
+        order = Payloads.order(Payloads.Size.SMALL);
+    }
+
+    @Benchmark
+    public Order editOneFieldAndDoneWrite() {
+        var edit = (Order) order.cloneForWrite();
+        edit.setPriority(++priority & 0xff);
+        edit.doneWrite();
+        return edit;
+    }
+
+    @Benchmark
+    public Order makeSetAllAndDoneWrite() {
+        var o = orderType.make();
+        o.setId("ORD-1").setStatus(Order.Status.NEW).setPriority(++priority & 0xff);
+        o.doneWrite();
+        return o;
+    }
+
+    @Benchmark
+    public Order builder() {
+        return orderType.builder().set("id", "ORD-1").set("status", Order.Status.NEW)
+                                  .set("priority", ++priority & 0xff).build();
+    }
+}
@@ -0,0 +1,88 @@
+package zer0g.fusion.data.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import zer0g.fusion.data.FusionValue;
+import zer0g.fusion.data.FusionValueDomain;
+import zer0g.fusion.data.FusionValueType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FusionValueType#from(Object, FusionValueDomain)} for same-class, widening, narrowing and big-number
+ * conversions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueConversionBenchmark
+{
+    static final FusionValueDomain INT = new FusionValueDomain(FusionValueType.INTEGER);
+    static final FusionValueDomain LONG = new FusionValueDomain(FusionValueType.INTEGER, "long");
+    static final FusionValueDomain BIG = new FusionValueDomain(FusionValueType.INTEGER, "big");
+    static final FusionValueDomain DEC = new FusionValueDomain(FusionValueType.DECIMAL);
+    static final FusionValueDomain STR = new FusionValueDomain(FusionValueType.STRING);
+
+    Integer intValue = 12345;
+    Long longValue = 12345L;
+    BigInteger bigValue = BigInteger.valueOf(12345);
+    Double doubleValue = 123.45;
+    String stringValue = "hello fusion";
+
+    @Benchmark
+    public FusionValue intToInt() {
+        return FusionValueType.INTEGER.from(intValue, INT);
+    }
+
+    @Benchmark
+    public FusionValue intToLong() {
+        return FusionValueType.INTEGER.from(intValue, LONG);
+    }
+
+    @Benchmark
+    public FusionValue longToInt() {
+        return FusionValueType.INTEGER.from(longValue, INT);
+    }
+
+    @Benchmark
+    public FusionValue bigToInt() {
+        return FusionValueType.INTEGER.from(bigValue, INT);
+    }
+
+    @Benchmark
+    public FusionValue longToBig() {
+        return FusionValueType.INTEGER.from(longValue, BIG);
+    }
+
+    @Benchmark
+    public FusionValue doubleToDecimal() {
+        return FusionValueType.DECIMAL.from(doubleValue, DEC);
+    }
+
+    @Benchmark
+    public FusionValue string() {
+        return FusionValueType.STRING.from(stringValue, STR);
+    }
+
+    @Benchmark
+    public FusionValue any() {
+        return FusionValue.from(longValue);
+    }
+
+    @Benchmark
+    public FusionValue bigDecimalAny() {
+        return FusionValue.from(BigDecimal.TEN);
+    }
+}
@@ -1,6 +1,7 @@
 module fusion.data {
     requires org.slf4j;
     requires net.bytebuddy;
+    requires jdk.jfr;
     requires java.desktop;  // todo: remove!  only needed to un-camel-case property names
     exports zer0g.fusion.data;
 }
\ No newline at end of file
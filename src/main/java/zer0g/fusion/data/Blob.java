@@ -6,7 +6,17 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Objects;
@@ -14,19 +24,36 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+/**
+ * A binary value.  The content is held in a {@link ByteBuffer} that is either on-heap (the default), direct (see
+ * {@link #allocateDirect(int)}), a memory-mapped file region (see {@link #map(Path, FileChannel.MapMode)}), or any
+ * other buffer supplied by the caller (see {@link #wrap(ByteBuffer)}), e.g. the view of a foreign memory segment.
+ * Large contents can thereby be kept off the java heap; all variants share the same IWR state semantics.
+ */
 public final class Blob extends InitWriteReadStateData.Base
 {
     public static final Base64.Encoder BYTES_ENCODER = Base64.getUrlEncoder().withoutPadding();
     public static final Base64.Decoder BYTES_DECODER = Base64.getUrlDecoder();
-    private OutputStream _outStream;
-    private final byte[] _bytes;
+    /**
+     * Number of Base64 chars encoded/decoded at a time when streaming (a multiple of 4).
+     */
+    static final int BASE64_CHUNK = 4096;
+    /**
+     * The single open writer-stream or -channel, if any.
+     */
+    private Closeable _writer;
+    /**
+     * The content: position is always 0 and limit is always the capacity; only absolute get/put are used on it, so
+     * that it can be shared by concurrent readers.
+     */
+    private final ByteBuffer _buffer;
     private final ReadWriteLock _rwlock = new ReentrantReadWriteLock();
 
     public Blob(int length) {
         if (length < 0) {
             throw new IndexOutOfBoundsException(length);
         }
-        _bytes = new byte[length];
+        _buffer = ByteBuffer.allocate(length);
     }
 
     public Blob(byte[] copy) {
@@ -34,29 +61,179 @@ public final class Blob extends InitWriteReadStateData.Base
     }
 
     public Blob(byte[] copy, int newLength) {
-        _bytes = Arrays.copyOf(copy, newLength);
+        this(newLength);
+        _buffer.put(0, copy, 0, Math.min(copy.length, newLength));
     }
 
     public Blob(String json) {
-        _bytes = BYTES_DECODER.decode(json);
+        _buffer = ByteBuffer.wrap(BYTES_DECODER.decode(json));
+    }
+
+    private Blob(ByteBuffer buffer) {
+        _buffer = buffer;
+    }
+
+    /**
+     * @return a new (writable) blob of the length, whose content is off-heap
+     */
+    public static Blob allocateDirect(int length) {
+        if (length < 0) {
+            throw new IndexOutOfBoundsException(length);
+        }
+        return new Blob(ByteBuffer.allocateDirect(length));
+    }
+
+    /**
+     * Wraps the remaining content of the buffer, WITHOUT copying it.  The caller must not modify the buffer's content
+     * afterward, other than through the blob.  If the buffer is read-only, so is the blob.
+     */
+    public static Blob wrap(ByteBuffer buffer) {
+        var blob = new Blob(buffer.slice());
+        if (buffer.isReadOnly()) {
+            blob.ensureReadonly();
+        }
+        return blob;
+    }
+
+    /**
+     * Maps the whole file into memory.  With {@link FileChannel.MapMode#READ_ONLY} the blob is readonly; with
+     * {@link FileChannel.MapMode#READ_WRITE}, writes to the blob are written to the file.
+     *
+     * @throws IOException
+     *       if the file cannot be opened or mapped, or is larger than 2GB
+     */
+    public static Blob map(Path file, FileChannel.MapMode mode) throws IOException {
+        var options = mode == FileChannel.MapMode.READ_WRITE
+                      ? new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+                      : new StandardOpenOption[]{StandardOpenOption.READ};
+        try (var channel = FileChannel.open(file, options)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map as a blob: " + file);
+            }
+            var blob = new Blob(channel.map(mode, 0, size));
+            if (mode == FileChannel.MapMode.READ_ONLY) {
+                blob.ensureReadonly();
+            }
+            return blob;
+        }
+    }
+
+    /**
+     * @return a new (writable) heap blob with all the bytes remaining in the stream, which is not closed
+     */
+    public static Blob from(InputStream in) throws IOException {
+        return new Blob(ByteBuffer.wrap(in.readAllBytes()));
+    }
+
+    /**
+     * Reads exactly length bytes from the stream, straight into the new blob's buffer.
+     *
+     * @return a new (writable) heap blob
+     * @throws EOFException
+     *       if the stream ends before length bytes
+     */
+    public static Blob from(InputStream in, int length) throws IOException {
+        var blob = new Blob(length);
+        if (in.readNBytes(blob._buffer.array(), 0, length) < length) {
+            throw new EOFException("Stream ended before " + length + " bytes");
+        }
+        return blob;
+    }
+
+    /**
+     * @return a new (writable) heap blob with the file's content, read in one pass into a buffer of the file's size
+     * @see #map(Path, FileChannel.MapMode)
+     */
+    public static Blob from(Path file) throws IOException {
+        return new Blob(ByteBuffer.wrap(Files.readAllBytes(file)));
+    }
+
+    /**
+     * @return true if the content is not on the java heap
+     */
+    public boolean isDirect() {
+        return _buffer.isDirect();
     }
 
     public byte get(int i) {
-        return _bytes[i];
+        return _buffer.get(i);
     }
 
     public void set(int i, byte value) {
         state().requireWritable();
-        _bytes[i] = value;
+        _buffer.put(i, value);
     }
 
     public long length() {
-        return _bytes.length;
+        return _buffer.capacity();
+    }
+
+    /**
+     * Bulk-reads content starting at the position.
+     *
+     * @return number of bytes read, which is less than len only at the end of the content; -1 if position is at (or
+     * past) the end
+     */
+    public int read(long position, byte[] dst, int off, int len) {
+        Objects.checkFromIndexSize(off, len, dst.length);
+        if (position < 0) {
+            throw new IndexOutOfBoundsException(Long.toString(position));
+        }
+        if (position >= length()) {
+            return len == 0 ? 0 : -1;
+        }
+        int n = (int) Math.min(len, length() - position);
+        _buffer.get((int) position, dst, off, n);
+        return n;
+    }
+
+    /**
+     * Bulk-writes the bytes into the content, starting at the position.
+     *
+     * @throws IndexOutOfBoundsException
+     *       if the bytes do not fit
+     */
+    public void write(long position, byte[] src, int off, int len) {
+        state().requireWritable();
+        Objects.checkFromIndexSize(off, len, src.length);
+        Objects.checkFromIndexSize(position, len, length());
+        _buffer.put((int) position, src, off, len);
+    }
+
+    /**
+     * Writes the whole content to the channel, without copying it through a java byte array.
+     *
+     * @return number of bytes written
+     */
+    public long transferTo(WritableByteChannel channel) throws IOException {
+        var view = _buffer.duplicate();
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+        return view.capacity();
+    }
+
+    /**
+     * @return a read-only view of the whole content, sharing it (not a copy)
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        return _buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * @return a read-only view of part of the content, sharing it (not a copy)
+     */
+    public ByteBuffer slice(int index, int length) {
+        return _buffer.slice(index, length).asReadOnlyBuffer();
     }
 
     /**
      * Allows reading directly from the contained buffer, thereby not wasting a copy (via {@link #bytesCopy()}) just to
      * read. (Blocks if another thread is waiting to acquire a writer-stream; returns when the writer is done.)<p/>
+     * Bulk reads, {@link InputStream#readAllBytes()} and {@link InputStream#transferTo(OutputStream)} copy directly
+     * from the buffer.  The read lock is released as soon as the end is reached, or on close, which must therefore be
+     * done by the thread that opened the stream.
      *
      * @return a new input stream to read the blob's contents.
      * @throws IOException
@@ -69,12 +246,36 @@ public final class Blob extends InitWriteReadStateData.Base
 
             @Override
             public int read() throws IOException {
-                if (_bufStream.isClosed()) {
-                    throw new EOFException();
-                }
                 return _bufStream.get();
             }
 
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return _bufStream.get(b, off, len);
+            }
+
+            @Override
+            public byte[] readAllBytes() throws IOException {
+                var bytes = new byte[_bufStream.remaining()];
+                _bufStream.get(bytes, 0, bytes.length);
+                return bytes;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                return _bufStream.skip(n);
+            }
+
+            @Override
+            public int available() throws IOException {
+                return _bufStream.remaining();
+            }
+
+            @Override
+            public long transferTo(OutputStream out) throws IOException {
+                return _bufStream.transferTo(out);
+            }
+
             @Override
             public void close() throws IOException {
                 _bufStream.close();
@@ -82,48 +283,162 @@ public final class Blob extends InitWriteReadStateData.Base
         };
     }
 
+    /**
+     * Channel equivalent of {@link #readerStream()}: reads into the destination buffer directly from the blob's.
+     */
+    public ReadableByteChannel readerChannel() throws IOException {
+        return new ReadableByteChannel()
+        {
+            private final BytesStream _bufStream = new BytesStream(_rwlock.readLock());
+            private boolean _open = true;
+
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                if (!_open) {
+                    throw new ClosedChannelException();
+                }
+                return _bufStream.get(dst);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return _open;
+            }
+
+            @Override
+            public void close() {
+                _open = false;
+                _bufStream.close();
+            }
+        };
+    }
+
     /**
      * Allows writing directly into the contained buffer, if state is writable.
      * <p>
-     * Note: Blocks if there are any open reader-streams; waits for them to close.<p/>
+     * Note: Blocks if there are any open reader-streams; waits for them to close.  The stream holds the write lock until
+     * it is closed (or filled), so it must be used and closed by the thread that opened it.<p/>
      *
      * @return the single output stream to write the blob's contents.
      * @throws IOException
-     *       if previously returned output stream is not yet closed.
+     *       if previously returned output stream (or {@link #writerChannel()}) is not yet closed.
      */
-    public synchronized OutputStream writerStream() throws IOException {
-        state().requireWritable();
-
-        if (null == _outStream) {
-            _outStream = new OutputStream()
+    public OutputStream writerStream() throws IOException {
+        lock().lock();
+        try {
+            requireNoWriter();
+            var stream = new OutputStream()
             {
                 private final BytesStream _bytesStream = new BytesStream(_rwlock.writeLock());
+                private boolean _open = true;
 
                 @Override
                 public void write(int b) throws IOException {
-                    if (_bytesStream.isClosed()) {
-                        throw new EOFException();
-                    }
                     _bytesStream.set((byte) b);
                 }
 
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    _bytesStream.set(b, off, len);
+                }
+
                 @Override
                 public void close() throws IOException {
-                    if (!_bytesStream.isClosed()) {
+                    if (_open) {
+                        _open = false;
+                        _bytesStream.close();
+                        writerClosed();
+                    }
+                }
+            };
+            _writer = stream;
+            return stream;
+        } finally {
+            lock().unlock();
+        }
+    }
+
+    /**
+     * Channel equivalent of {@link #writerStream()}: writes from the source buffer directly into the blob's.
+     */
+    public WritableByteChannel writerChannel() throws IOException {
+        lock().lock();
+        try {
+            requireNoWriter();
+            var channel = new WritableByteChannel()
+            {
+                private final BytesStream _bytesStream = new BytesStream(_rwlock.writeLock());
+                private boolean _open = true;
+
+                @Override
+                public int write(ByteBuffer src) throws IOException {
+                    if (!_open) {
+                        throw new ClosedChannelException();
+                    }
+                    return _bytesStream.set(src);
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return _open;
+                }
+
+                @Override
+                public void close() {
+                    if (_open) {
+                        _open = false;
                         _bytesStream.close();
-                        _outStream = null;
+                        writerClosed();
                     }
                 }
             };
-            return _outStream;
-        } else {
+            _writer = channel;
+            return channel;
+        } finally {
+            lock().unlock();
+        }
+    }
+
+    private void requireNoWriter() throws IOException {
+        state().requireWritable();
+        if (null != _writer) {
             throw new IOException("There is already an unclosed writer!");
         }
     }
 
+    private void writerClosed() {
+        lock().lock();
+        try {
+            _writer = null;
+        } finally {
+            lock().unlock();
+        }
+    }
+
     @Override
     public String toString() {
-        return BYTES_ENCODER.encodeToString(_bytes);
+        var encoded = BYTES_ENCODER.encode(_buffer.duplicate());
+        return new String(encoded.array(), 0, encoded.limit(), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Writes {@link #toString()} to the writer, encoding {@link #BASE64_CHUNK} chars at a time, so that no string of
+     * the whole encoding is ever made.
+     */
+    void writeBase64(Writer out) throws IOException {
+        var bytes = new byte[BASE64_CHUNK / 4 * 3];
+        var encoded = new byte[BASE64_CHUNK];
+        var chars = new char[BASE64_CHUNK];
+        int length = _buffer.capacity();
+        for (int pos = 0, n; pos < length; pos += n) {
+            n = Math.min(bytes.length, length - pos);
+            _buffer.get(pos, bytes, 0, n);
+            int count = BYTES_ENCODER.encode(n == bytes.length ? bytes : Arrays.copyOf(bytes, n), encoded);
+            for (int i = 0; i < count; i++) {
+                chars[i] = (char) encoded[i];
+            }
+            out.write(chars, 0, count);
+        }
     }
 
     /**
@@ -134,46 +449,48 @@ public final class Blob extends InitWriteReadStateData.Base
      * @return blob's bytes as specified charset
      */
     public String as(Charset charset) {
-        return new String(_bytes, charset);
+        return charset.decode(_buffer.duplicate()).toString();
     }
 
     public byte[] bytesCopy() {
-        return bytesCopy(_bytes.length);
+        return bytesCopy(_buffer.capacity());
     }
 
     public byte[] bytesCopy(int newLength) {
-        return Arrays.copyOf(_bytes, newLength);
+        var copy = new byte[newLength];
+        _buffer.get(0, copy, 0, Math.min(newLength, _buffer.capacity()));
+        return copy;
     }
 
     @Override
-    protected synchronized void prepForIwrStateChange(IwrState nextState) {
-        if (_outStream != null) {
+    protected void prepForIwrStateChange(IwrState nextState) {
+        if (_writer != null) {
             throw new IllegalStateException("Blob still has open writer!");
         }
     }
 
+    /**
+     * Sequential access to the buffer, holding the (read or write) lock until the end is reached or it is closed.
+     */
     private final class BytesStream implements Closeable
     {
-        private Lock _lock;
+        private static final int TRANSFER_CHUNK = 8192;
+
+        private final Lock _lock;
         private int _index;
 
         private BytesStream(Lock lock) {
             _lock = Objects.requireNonNull(lock);
             _lock.lock();
             _index = 0;
+            if (_buffer.capacity() == 0) {
+                close();
+            }
         }
 
-        public void set(byte next) throws ArrayIndexOutOfBoundsException {
-            _bytes[_index] = next;
-            advance();
-        }
-
-        private void advance() {
-            assert _index < length();
-            if (isClosed()) {
-                throw new IllegalStateException("Already closed!");
-            }
-            if (++_index == length()) {
+        private void advance(int count) {
+            _index += count;
+            if (_index == _buffer.capacity()) {
                 close();
             }
         }
@@ -182,6 +499,10 @@ public final class Blob extends InitWriteReadStateData.Base
             return -1 == _index;
         }
 
+        public int remaining() {
+            return isClosed() ? 0 : _buffer.capacity() - _index;
+        }
+
         @Override
         public void close() {
             if (!isClosed()) {
@@ -190,10 +511,101 @@ public final class Blob extends InitWriteReadStateData.Base
             }
         }
 
-        public byte get() throws ArrayIndexOutOfBoundsException {
-            var v = _bytes[_index];
-            advance();
+        /**
+         * @return the next byte (0-255), or -1 at the end
+         */
+        public int get() {
+            if (isClosed()) {
+                return -1;
+            }
+            int v = _buffer.get(_index) & 0xFF;
+            advance(1);
             return v;
         }
+
+        public int get(byte[] dst, int off, int len) {
+            Objects.checkFromIndexSize(off, len, dst.length);
+            if (len == 0) {
+                return 0;
+            } else if (isClosed()) {
+                return -1;
+            }
+            int n = Math.min(len, remaining());
+            _buffer.get(_index, dst, off, n);
+            advance(n);
+            return n;
+        }
+
+        public int get(ByteBuffer dst) {
+            if (!dst.hasRemaining()) {
+                return 0;
+            } else if (isClosed()) {
+                return -1;
+            }
+            int n = Math.min(dst.remaining(), remaining());
+            dst.put(_buffer.slice(_index, n));
+            advance(n);
+            return n;
+        }
+
+        public long skip(long count) {
+            int n = (int) Math.max(0, Math.min(count, remaining()));
+            if (n > 0) {
+                advance(n);
+            }
+            return n;
+        }
+
+        public long transferTo(OutputStream out) throws IOException {
+            long total = 0;
+            if (remaining() == 0) {
+                // Also covers a closed stream, whose index is -1.
+                return 0;
+            } else if (_buffer.hasArray()) {
+                int n = remaining();
+                out.write(_buffer.array(), _buffer.arrayOffset() + _index, n);
+                advance(n);
+                total = n;
+            } else {
+                var chunk = new byte[Math.min(TRANSFER_CHUNK, remaining())];
+                for (int n; (n = get(chunk, 0, chunk.length)) > 0; ) {
+                    out.write(chunk, 0, n);
+                    total += n;
+                }
+            }
+            return total;
+        }
+
+        public void set(byte next) throws EOFException {
+            requireRoom(1);
+            _buffer.put(_index, next);
+            advance(1);
+        }
+
+        public void set(byte[] src, int off, int len) throws EOFException {
+            Objects.checkFromIndexSize(off, len, src.length);
+            if (len > 0) {
+                requireRoom(len);
+                _buffer.put(_index, src, off, len);
+                advance(len);
+            }
+        }
+
+        public int set(ByteBuffer src) throws EOFException {
+            int n = src.remaining();
+            if (n > 0) {
+                requireRoom(n);
+                _buffer.put(_index, src, src.position(), n);
+                src.position(src.limit());
+                advance(n);
+            }
+            return n;
+        }
+
+        private void requireRoom(int count) throws EOFException {
+            if (count > remaining()) {
+                throw new EOFException("Blob is full: cannot write " + count + " more byte(s)");
+            }
+        }
     }
 }
@@ -1,6 +1,8 @@
 package zer0g.fusion.data;
 
+import java.util.Arrays;
 import java.util.HexFormat;
+import java.util.Objects;
 
 @FoType
 public record BlobRef(@FoField(isKey = true) String hash, @FoField(range = "1") Long size, byte[] _bytes)
@@ -42,6 +44,20 @@ public record BlobRef(@FoField(isKey = true) String hash, @FoField(range = "1")
         }
     }
 
+    /**
+     * Equal if same (case-insensitive) hash and size; the generated record equality would compare the hash-bytes
+     * array by identity.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof BlobRef that && hash.equalsIgnoreCase(that.hash) && Objects.equals(size, that.size);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(_bytes) * 31 + Objects.hashCode(size);
+    }
+
     public String toJsonString() {
         return hash + "." + size;
     }
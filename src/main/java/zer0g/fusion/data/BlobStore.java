@@ -0,0 +1,51 @@
+package zer0g.fusion.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Content-addressed storage of blobs: each blob is stored under the hash of its content, which (along with its size)
+ * is returned as a {@link BlobRef}.  Storing the same content twice stores it once.
+ * <p/>
+ * A fob can thereby carry a (small) {@link BlobRef} field instead of an inline (Base64) blob, and resolve it through
+ * the store when the content is actually needed.
+ * <p/>
+ * Implementations must be thread-safe.  {@link FileBlobStore} is the included local-filesystem implementation.
+ */
+public interface BlobStore
+{
+    /**
+     * Stores the blob's content (unless already stored).
+     *
+     * @return the ref to resolve the content with
+     */
+    BlobRef put(Blob blob) throws IOException;
+
+    /**
+     * Stores all the remaining bytes of the stream (unless already stored).  The stream is not closed.
+     * <p/>
+     * By default, the stream is first read into a heap blob; implementations should rather hash the bytes as they are
+     * written through to storage, so that the content is read only once and never held in memory.
+     *
+     * @return the ref to resolve the content with
+     */
+    default BlobRef put(InputStream in) throws IOException {
+        return put(Blob.from(in));
+    }
+
+    /**
+     * @return the (readonly) blob with the content of the ref, or null if it is not stored
+     * @throws IOException
+     *       if the stored content cannot be loaded, or its size differs from the ref's
+     */
+    Blob get(BlobRef ref) throws IOException;
+
+    boolean contains(BlobRef ref);
+
+    /**
+     * Removes the content from the store.  Blobs already resolved from it remain readable.
+     *
+     * @return true if the content was stored
+     */
+    boolean delete(BlobRef ref) throws IOException;
+}
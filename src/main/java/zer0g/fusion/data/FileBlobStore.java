@@ -0,0 +1,207 @@
+package zer0g.fusion.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link BlobStore} in a local directory: each content is a file named by the hex SHA-256 hash of the content, under a
+ * sub-directory named by the hash's first two hex digits.  Resolved blobs are memory-mapped (so are off-heap), and the
+ * most recently resolved ones are kept in an LRU cache bounded by their total size.
+ * <p/>
+ * Content is written to a temporary file while it is hashed, then atomically moved to its final name; if that name
+ * already exists, the content was already stored and the temporary file is just deleted.
+ */
+public final class FileBlobStore implements BlobStore
+{
+    public static final String HASH_ALGORITHM = "SHA-256";
+    private static final int CHUNK = 64 * 1024;
+
+    private final Path _root;
+    private final long _maxCachedBytes;
+    private final LinkedHashMap<String, Blob> _cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long _cachedBytes;
+    /**
+     * Guards the cache and its byte count.
+     */
+    private final ReentrantLock _lock = new ReentrantLock();
+
+    /**
+     * @param root
+     *       directory of the store; created if it does not exist
+     * @param maxCachedBytes
+     *       bound on the total length of the cached blobs; 0 disables the cache
+     */
+    public FileBlobStore(Path root, long maxCachedBytes) throws IOException {
+        if (maxCachedBytes < 0) {
+            throw new IllegalArgumentException("Negative cache size: " + maxCachedBytes);
+        }
+        _root = Files.createDirectories(root);
+        _maxCachedBytes = maxCachedBytes;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    public Path root() {
+        return _root;
+    }
+
+    /**
+     * @return the file where the ref's content is (or would be) stored
+     */
+    public Path pathOf(BlobRef ref) {
+        var hash = ref.hash().toLowerCase();
+        if (hash.length() < 3) {
+            throw new IllegalArgumentException("Invalid blob hash: " + hash);
+        }
+        return _root.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    @Override
+    public BlobRef put(Blob blob) throws IOException {
+        try (var channel = blob.readerChannel()) {
+            return store(channel);
+        }
+    }
+
+    @Override
+    public BlobRef put(InputStream in) throws IOException {
+        return store(Channels.newChannel(in));
+    }
+
+    private BlobRef store(ReadableByteChannel src) throws IOException {
+        var digest = newDigest();
+        var tmp = Files.createTempFile(_root, "put", ".tmp");
+        try {
+            long size = 0;
+            try (var out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                var buffer = ByteBuffer.allocateDirect(CHUNK);
+                while (src.read(buffer) >= 0) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            }
+            var ref = new BlobRef(digest.digest(), size);
+            var path = pathOf(ref);
+            if (!Files.exists(path)) {
+                Files.createDirectories(path.getParent());
+                try {
+                    Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException e) {
+                    // Same content was stored concurrently.
+                }
+            }
+            return ref;
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    @Override
+    public Blob get(BlobRef ref) throws IOException {
+        var blob = cached(ref.hash());
+        if (blob == null) {
+            var path = pathOf(ref);
+            if (!Files.exists(path)) {
+                return null;
+            }
+            blob = Blob.map(path, FileChannel.MapMode.READ_ONLY);
+            cache(ref.hash(), blob);
+        }
+        if (ref.size() != null && ref.size() != blob.length()) {
+            throw new IOException("Stored size " + blob.length() + " differs from ref: " + ref.toJsonString());
+        }
+        return blob;
+    }
+
+    @Override
+    public boolean contains(BlobRef ref) {
+        return cached(ref.hash()) != null || Files.exists(pathOf(ref));
+    }
+
+    @Override
+    public boolean delete(BlobRef ref) throws IOException {
+        uncache(ref.hash());
+        return Files.deleteIfExists(pathOf(ref));
+    }
+
+    /**
+     * @return total length of the blobs currently cached
+     */
+    public long cachedBytes() {
+        _lock.lock();
+        try {
+            return _cachedBytes;
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    private Blob cached(String hash) {
+        _lock.lock();
+        try {
+            return _cache.get(hash.toLowerCase());
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    private void cache(String hash, Blob blob) {
+        _lock.lock();
+        try {
+            if (blob.length() > _maxCachedBytes) {
+                return;
+            }
+            var old = _cache.put(hash.toLowerCase(), blob);
+            _cachedBytes += blob.length() - (old == null ? 0 : old.length());
+            var eldest = _cache.entrySet().iterator();
+            while (_cachedBytes > _maxCachedBytes) {
+                var entry = eldest.next();
+                _cachedBytes -= entry.getValue().length();
+                eldest.remove();
+            }
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    private void uncache(String hash) {
+        _lock.lock();
+        try {
+            var old = _cache.remove(hash.toLowerCase());
+            if (old != null) {
+                _cachedBytes -= old.length();
+            }
+        } finally {
+            _lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + _root + "]";
+    }
+}
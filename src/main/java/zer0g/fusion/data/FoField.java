@@ -19,5 +19,11 @@ public @interface FoField
 
     String range() default "";
 
+    /**
+     * Regex the whole value of a STRING field must match; compiled once into the field's range (see
+     * {@link FusionValueType.PatternRange}).
+     */
+    String regex() default "";
+
     String defval() default "";
 }
@@ -0,0 +1,232 @@
+package zer0g.fusion.data;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Exact-size, unmodifiable storage that a {@link FusionList} switches to when it becomes readonly.
+ * <p/>
+ * When the list's item domain is a primitive-qualified {@link FusionValueType#INTEGER}, {@link FusionValueType#DECIMAL}
+ * or {@link FusionValueType#BOOL}, and there are no null items, the java-values are stored in a primitive array (or a
+ * {@link BitSet}) and the {@link FusionValue} wrappers are created lazily, on {@link #get(int)}.  Otherwise, the
+ * fusion-values are stored in an exact-size array.
+ */
+abstract class FrozenValueList extends AbstractList<FusionValue> implements RandomAccess
+{
+    /**
+     * @param values
+     *       the fusion-values to freeze; not retained
+     * @param itemDomain
+     *       domain of the items; ALL non-null values are expected to be of its type and java-class
+     * @return the most compact frozen form for the supplied values
+     */
+    static FrozenValueList freeze(List<FusionValue> values, FusionValueDomain itemDomain) {
+        if (values instanceof FrozenValueList frozen) {
+            return frozen;
+        }
+        Class<?> itemClass = itemDomain._javaDataClass();
+        if (itemClass != null && !values.isEmpty() && values.stream().noneMatch(FusionValue::isNull)) {
+            if (itemClass == Integer.class || itemClass == Short.class || itemClass == Byte.class) {
+                var array = new int[values.size()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = ((Number) values.get(i).get()).intValue();
+                }
+                return new Ints(array, itemClass);
+            } else if (itemClass == Long.class) {
+                var array = new long[values.size()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = (Long) values.get(i).get();
+                }
+                return new Longs(array);
+            } else if (itemClass == Double.class || itemClass == Float.class) {
+                var array = new double[values.size()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = ((Number) values.get(i).get()).doubleValue();
+                }
+                return new Doubles(array, itemClass);
+            } else if (itemClass == Boolean.class) {
+                var bits = new BitSet(values.size());
+                for (int i = 0; i < values.size(); i++) {
+                    bits.set(i, (Boolean) values.get(i).get());
+                }
+                return new Bools(bits, values.size());
+            }
+        }
+        return new Values(values.toArray(new FusionValue[0]));
+    }
+
+    /**
+     * @return {@code get(index).getinner()}, without creating the fusion-value wrapper if possible
+     */
+    abstract Object javaAt(int index);
+
+    /**
+     * Same as {@code get(index).accept(visitor)}, without creating the fusion-value wrapper if possible.
+     */
+    abstract void acceptAt(int index, FusionValueVisitor visitor) throws IOException;
+
+    private static final class Values extends FrozenValueList
+    {
+        private final FusionValue[] _values;
+
+        private Values(FusionValue[] values) {
+            _values = values;
+        }
+
+        @Override
+        public FusionValue get(int index) {
+            return _values[index];
+        }
+
+        @Override
+        public int size() {
+            return _values.length;
+        }
+
+        @Override
+        Object javaAt(int index) {
+            return _values[index].getinner();
+        }
+
+        @Override
+        void acceptAt(int index, FusionValueVisitor visitor) throws IOException {
+            var fv = _values[index];
+            fv.type().accept(visitor, fv.get());
+        }
+    }
+
+    private static final class Ints extends FrozenValueList
+    {
+        private final int[] _array;
+        private final Class<?> _boxClass;
+
+        private Ints(int[] array, Class<?> boxClass) {
+            _array = array;
+            _boxClass = boxClass;
+        }
+
+        @Override
+        public FusionValue get(int index) {
+            return new FusionValue(FusionValueType.INTEGER, javaAt(index));
+        }
+
+        @Override
+        public int size() {
+            return _array.length;
+        }
+
+        @Override
+        Number javaAt(int index) {
+            int v = _array[index];
+            if (_boxClass == Integer.class) {
+                return v;
+            } else if (_boxClass == Short.class) {
+                return (short) v;
+            } else {
+                return (byte) v;
+            }
+        }
+
+        @Override
+        void acceptAt(int index, FusionValueVisitor visitor) throws IOException {
+            visitor.visitInteger(javaAt(index));
+        }
+    }
+
+    private static final class Longs extends FrozenValueList
+    {
+        private final long[] _array;
+
+        private Longs(long[] array) {
+            _array = array;
+        }
+
+        @Override
+        public FusionValue get(int index) {
+            return new FusionValue(FusionValueType.INTEGER, _array[index]);
+        }
+
+        @Override
+        public int size() {
+            return _array.length;
+        }
+
+        @Override
+        Long javaAt(int index) {
+            return _array[index];
+        }
+
+        @Override
+        void acceptAt(int index, FusionValueVisitor visitor) throws IOException {
+            visitor.visitInteger(_array[index]);
+        }
+    }
+
+    private static final class Doubles extends FrozenValueList
+    {
+        private final double[] _array;
+        private final boolean _isFloat;
+
+        private Doubles(double[] array, Class<?> boxClass) {
+            _array = array;
+            _isFloat = boxClass == Float.class;
+        }
+
+        @Override
+        public FusionValue get(int index) {
+            return new FusionValue(FusionValueType.DECIMAL, javaAt(index));
+        }
+
+        @Override
+        public int size() {
+            return _array.length;
+        }
+
+        @Override
+        Number javaAt(int index) {
+            return _isFloat ? (Number) (float) _array[index] : (Number) _array[index];
+        }
+
+        @Override
+        void acceptAt(int index, FusionValueVisitor visitor) throws IOException {
+            visitor.visitDecimal(javaAt(index));
+        }
+    }
+
+    private static final class Bools extends FrozenValueList
+    {
+        private final BitSet _bits;
+        private final int _size;
+
+        private Bools(BitSet bits, int size) {
+            _bits = bits;
+            _size = size;
+        }
+
+        @Override
+        public FusionValue get(int index) {
+            return javaAt(index) ? FusionValue.TRUE : FusionValue.FALSE;
+        }
+
+        @Override
+        public int size() {
+            return _size;
+        }
+
+        @Override
+        Boolean javaAt(int index) {
+            if (index < 0 || index >= _size) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return _bits.get(index);
+        }
+
+        @Override
+        void acceptAt(int index, FusionValueVisitor visitor) throws IOException {
+            visitor.visitBool(javaAt(index));
+        }
+    }
+}
@@ -11,6 +11,25 @@ public class Fusion
 {
     public static final String FOB_TYPE_CLASS_NAME_SUFFIX = "_FobType";
     private static final Map<String, FusionObjectType> _typeMap = new ConcurrentHashMap<>();
+    /**
+     * The installed metrics; null (the default) if disabled.  Instrumented call-sites read this ONCE, and do nothing
+     * more if it is null.
+     */
+    static volatile FusionMetrics _metrics;
+
+    /**
+     * @return the installed metrics, or null if none
+     */
+    public static FusionMetrics metrics() {
+        return _metrics;
+    }
+
+    /**
+     * Installs (or, with null, uninstalls) the metrics that all subsequent instrumented operations report to.
+     */
+    public static void setMetrics(FusionMetrics metrics) {
+        _metrics = metrics;
+    }
 
     public static final FusionObjectType findFobType(Class<?> javaClass) {
         return findFobType(javaClass.getName());
@@ -25,6 +44,8 @@ public class Fusion
     }
 
     private static DynamicType.Unloaded<? extends FusionObjectType> makeFobType(Class<?> javaClass) {
+        var event = new FusionEvents.FobTypeGeneration();
+        event.begin();
         DynamicType.Unloaded<? extends FusionObjectType> bbdt;
         if (javaClass.isRecord()) {
             bbdt = FusionRecordObjectType.generateType((Class<? extends Record>) javaClass);
@@ -34,6 +55,11 @@ public class Fusion
             throw new IllegalArgumentException(
                   "Class not a record or FusionBean sub-interface: " + javaClass.getName());
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.javaClass = javaClass;
+            event.commit();
+        }
         System.out.println("Generated fusion-object-type for " + javaClass.getName());
         return bbdt;
     }
@@ -57,12 +83,15 @@ public class Fusion
             try {
                 Class.forName(id + FOB_TYPE_CLASS_NAME_SUFFIX);
                 t = findFobType(id);
-                if (t != null) {
-                    return t;
-                }
             } catch (ClassNotFoundException e) {
             }
-            throw new IllegalArgumentException(id);
+            var metrics = _metrics;
+            if (metrics != null) {
+                metrics.typeResolutionMiss(id, t != null);
+            }
+            if (t == null) {
+                throw new IllegalArgumentException(id);
+            }
         }
         return t;
     }
@@ -76,10 +105,9 @@ public class Fusion
      *
      * @param base
      */
-    synchronized static void registerFobType(FusionObjectType base) {
-        if (_typeMap.containsKey(base.name())) {
+    static void registerFobType(FusionObjectType base) {
+        if (_typeMap.putIfAbsent(base.name(), base) != null) {
             throw new IllegalArgumentException("Object-type already registered: " + base.name());
         }
-        _typeMap.put(base.name(), base);
     }
 }
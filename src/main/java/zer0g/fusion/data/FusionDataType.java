@@ -60,7 +60,8 @@ public interface FusionDataType<T extends FusionData>
 
         @Override
         public String getMessage() {
-            return _errors.size() == 1 ? _errors.get(0) : _errors.size() + " validation errors!";
+            return _errors.size() == 1 ? _errors.get(0)
+                                       : _errors.size() + " validation errors: " + String.join("; ", _errors);
         }
 
         public List<String> getErrors() {
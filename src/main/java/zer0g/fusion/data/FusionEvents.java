@@ -0,0 +1,82 @@
+package zer0g.fusion.data;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Built-in JFR events for cold-start and slow-path attribution.  They are always emitted (no installation needed) and,
+ * like any JFR event, are toggled and thresholded at runtime by the active recordings' settings, e.g. a {@code .jfc}
+ * file or {@code Recording.enable("zer0g.fusion.SlowObjectRead").withThreshold(...)}.
+ * With no recording running, each instrumented call-site costs next to nothing.
+ */
+public final class FusionEvents
+{
+    private FusionEvents() {
+    }
+
+    /**
+     * @return the begun event, which the static initializer holds until it passes it to {@link #typeInitEnd}; an
+     * initializer that throws simply drops it, so nested initializations never see each other's events
+     */
+    static FobTypeInitialization typeInitBegin() {
+        var event = new FobTypeInitialization();
+        event.begin();
+        return event;
+    }
+
+    static void typeInitEnd(String fobTypeClassName, FobTypeInitialization event) {
+        if (event != null && event.shouldCommit()) {
+            event.fobTypeClass = fobTypeClassName;
+            event.commit();
+        }
+    }
+
+    @Name("zer0g.fusion.FobTypeGeneration")
+    @Label("Fob-Type Generation")
+    @Category("Fusion Data")
+    @Description("Byte-code generation of a fob-type for a FusionBean interface or java-record")
+    public static final class FobTypeGeneration extends Event
+    {
+        @Label("Java Class")
+        Class<?> javaClass;
+    }
+
+    @Name("zer0g.fusion.OnDemandTypeCreation")
+    @Label("On-Demand Record Type Creation")
+    @Category("Fusion Data")
+    @Description("Reflective creation of a fob-type for a java-record that has no generated fob-type")
+    public static final class OnDemandTypeCreation extends Event
+    {
+        @Label("Record Class")
+        Class<?> recordClass;
+    }
+
+    @Name("zer0g.fusion.FobTypeInitialization")
+    @Label("Fob-Type Initialization")
+    @Category("Fusion Data")
+    @Description("Execution of a generated fob-type's static initializer (schema construction and registration)")
+    public static final class FobTypeInitialization extends Event
+    {
+        @Label("Fob-Type Class")
+        String fobTypeClass;
+    }
+
+    @Name("zer0g.fusion.SlowObjectRead")
+    @Label("Slow Object Read")
+    @Category("Fusion Data")
+    @Description("A fusion-object read from JSON that took longer than the threshold")
+    @Threshold("10 ms")
+    public static final class SlowObjectRead extends Event
+    {
+        @Label("Fob Type")
+        String type;
+        @Label("Chars")
+        long chars;
+        @Label("Field Count")
+        int fields;
+    }
+}
@@ -0,0 +1,343 @@
+package zer0g.fusion.data;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow} adapters, to wire fob decoding and encoding into reactive pipelines with back-pressure, without first
+ * buffering whole payloads into strings.
+ * <p/>
+ * A {@link #publisher(FusionObjectType, Path, Executor) publisher} decodes a stream of JSON objects (concatenated, or
+ * newline-separated) with a {@link JsonReader}, only as fast as its subscriber requests them.  An {@link Encoder} writes
+ * the fobs it receives as NDJSON with a {@link JsonWriter}, requesting (and flushing) them in batches.
+ */
+public final class FusionFlow
+{
+    private FusionFlow() {
+    }
+
+    /**
+     * @return a publisher of the objects in the file; each subscriber reads the file afresh
+     */
+    public static <T extends FusionObject> Flow.Publisher<T> publisher(FusionObjectType<T> type, Path file,
+                                                                       Executor executor)
+    {
+        Objects.requireNonNull(file);
+        return new Decoder<>(type, () -> Files.newInputStream(file), null, executor);
+    }
+
+    /**
+     * @return a publisher of the objects in the stream, which allows only one subscriber, and closes the stream when
+     * done (or cancelled)
+     */
+    public static <T extends FusionObject> Flow.Publisher<T> publisher(FusionObjectType<T> type, InputStream in,
+                                                                       Executor executor)
+    {
+        Objects.requireNonNull(in);
+        return new Decoder<>(type, () -> in, in, executor);
+    }
+
+    /**
+     * @return a publisher of the objects in the channel, which allows only one subscriber, and closes the channel when
+     * done (or cancelled)
+     */
+    public static <T extends FusionObject> Flow.Publisher<T> publisher(FusionObjectType<T> type,
+                                                                       ReadableByteChannel channel, Executor executor)
+    {
+        Objects.requireNonNull(channel);
+        return new Decoder<>(type, () -> Channels.newInputStream(channel), channel, executor);
+    }
+
+    /**
+     * @return an encoder to the stream, which it closes when done
+     */
+    public static Encoder subscriber(OutputStream out, int batchSize) {
+        return new Encoder(new OutputStreamWriter(Objects.requireNonNull(out), StandardCharsets.UTF_8), batchSize);
+    }
+
+    /**
+     * @return an encoder to the channel, which it closes when done
+     */
+    public static Encoder subscriber(WritableByteChannel channel, int batchSize) {
+        return subscriber(Channels.newOutputStream(channel), batchSize);
+    }
+
+    private interface Source
+    {
+        InputStream open() throws IOException;
+    }
+
+    private static final class Decoder<T extends FusionObject> implements Flow.Publisher<T>
+    {
+        private final FusionObjectType<T> _type;
+        private final FusionValueDomain _domain;
+        private final Source _source;
+        /**
+         * The caller's stream or channel, if the source can only be read once; closed even if it was never read.
+         */
+        private final Closeable _singleUse;
+        private final Executor _executor;
+        /**
+         * Set once subscribed, if the source can only be read once.
+         */
+        private final AtomicBoolean _used;
+
+        Decoder(FusionObjectType<T> type, Source source, Closeable singleUse, Executor executor) {
+            _type = Objects.requireNonNull(type);
+            _domain = new FusionValueDomain(type);
+            _source = source;
+            _singleUse = singleUse;
+            _executor = Objects.requireNonNull(executor);
+            _used = singleUse != null ? new AtomicBoolean() : null;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            Objects.requireNonNull(subscriber);
+            if (_used != null && !_used.compareAndSet(false, true)) {
+                subscriber.onSubscribe(new Flow.Subscription()
+                {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException("Already subscribed to this single-use source of " +
+                                                             _type.name()));
+                return;
+            }
+            var subscription = new Subscription(subscriber);
+            subscriber.onSubscribe(subscription);
+        }
+
+        /**
+         * Reads on the executor, one drain at a time: requests, cancels and errors only bump {@link #_wip}, and
+         * whichever signal finds it at zero schedules the drain, which then loops until it has seen them all.
+         */
+        private final class Subscription implements Flow.Subscription
+        {
+            private final Flow.Subscriber<? super T> _subscriber;
+            private final AtomicLong _demand = new AtomicLong();
+            private final AtomicInteger _wip = new AtomicInteger();
+            private volatile boolean _cancelled;
+            private volatile Throwable _badRequest;
+            // Only touched by the drain.
+            private Reader _wire;
+            private JsonReader _reader;
+            private long _count;
+            private boolean _done;
+
+            Subscription(Flow.Subscriber<? super T> subscriber) {
+                _subscriber = subscriber;
+            }
+
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    _badRequest = new IllegalArgumentException("Non-positive request: " + n);
+                } else {
+                    _demand.getAndAccumulate(n, (demand, more) -> demand + more < 0 ? Long.MAX_VALUE : demand + more);
+                }
+                schedule();
+            }
+
+            @Override
+            public void cancel() {
+                _cancelled = true;
+                schedule();
+            }
+
+            private void schedule() {
+                if (_wip.getAndIncrement() == 0) {
+                    _executor.execute(this::drain);
+                }
+            }
+
+            private void drain() {
+                int missed = 1;
+                do {
+                    while (!_done) {
+                        if (_cancelled) {
+                            close();
+                            break;
+                        }
+                        if (_badRequest != null) {
+                            close();
+                            _subscriber.onError(_badRequest);
+                            break;
+                        }
+                        if (_demand.get() == 0) {
+                            break;
+                        }
+                        T fob;
+                        try {
+                            fob = next();
+                        } catch (IOException | RuntimeException e) {
+                            close();
+                            _subscriber.onError(e);
+                            break;
+                        }
+                        if (fob == null) {
+                            close();
+                            _subscriber.onComplete();
+                            break;
+                        }
+                        _demand.decrementAndGet();
+                        _subscriber.onNext(fob);
+                    }
+                    missed = _wip.addAndGet(-missed);
+                } while (missed != 0);
+            }
+
+            private T next() throws IOException {
+                if (_reader == null) {
+                    _wire = new BufferedReader(new InputStreamReader(_source.open(), StandardCharsets.UTF_8));
+                    _reader = new JsonReader(_wire);
+                }
+                if (_reader.skipws() == -1) {
+                    return null;
+                }
+                var fv = _reader.read(FusionValueType.OBJECT, _domain);
+                if (fv == FusionValue.NULL) {
+                    throw new IOException("Object #" + (_count + 1) + " of " + _type.name() + " is null");
+                }
+                _count++;
+                return (T) fv.get();
+            }
+
+            private void close() {
+                _done = true;
+                Closeable source = _wire != null ? _wire : _singleUse;
+                if (source != null) {
+                    try {
+                        source.close();
+                    } catch (IOException e) {
+                        // Nothing more to read from it anyway.
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Encodes the fobs it receives to NDJSON.  It requests them in batches, and flushes the output once each batch has
+     * been written, so that a slow output holds back the publisher.  The output is closed when the publisher completes
+     * or fails, or when a write fails (which also cancels the subscription); {@link #result()} then completes.
+     */
+    public static final class Encoder implements Flow.Subscriber<FusionObject>
+    {
+        private final Writer _wire;
+        private final JsonWriter _writer;
+        private final int _batchSize;
+        private final CompletableFuture<Long> _result = new CompletableFuture<>();
+        private Flow.Subscription _subscription;
+        /**
+         * Fobs still to come in the current batch.
+         */
+        private int _pending;
+        private long _count;
+
+        Encoder(Writer wire, int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+            }
+            _wire = new BufferedWriter(wire);
+            _writer = new JsonWriter(_wire);
+            _batchSize = batchSize;
+        }
+
+        /**
+         * @return completes with the number of fobs written, once the output is flushed and closed; or exceptionally,
+         * with the publisher's error or the write error
+         */
+        public CompletableFuture<Long> result() {
+            return _result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            Objects.requireNonNull(subscription);
+            if (_subscription != null) {
+                subscription.cancel();
+                return;
+            }
+            _subscription = subscription;
+            _pending = _batchSize;
+            subscription.request(_batchSize);
+        }
+
+        @Override
+        public void onNext(FusionObject fob) {
+            if (_result.isDone()) {
+                return;
+            }
+            try {
+                _writer.visitObject(Objects.requireNonNull(fob));
+                _wire.write('\n');
+                _count++;
+                if (--_pending == 0) {
+                    _wire.flush();
+                    _pending = _batchSize;
+                    _subscription.request(_batchSize);
+                }
+            } catch (IOException | RuntimeException e) {
+                _subscription.cancel();
+                fail(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            fail(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            if (_result.isDone()) {
+                return;
+            }
+            try {
+                _wire.close();
+                _result.complete(_count);
+            } catch (IOException e) {
+                _result.completeExceptionally(e);
+            }
+        }
+
+        private void fail(Throwable throwable) {
+            if (_result.isDone()) {
+                return;
+            }
+            try {
+                _wire.close();
+            } catch (IOException e) {
+                throwable.addSuppressed(e);
+            }
+            _result.completeExceptionally(throwable);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package zer0g.fusion.data;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Secondary index of a {@link FusionKeyedSet} on one (usually non-key) field: maps each value of the field to the fobs
+ * that have it.  Created with {@link FusionKeyedSet#hashIndex(String)} for equality lookups, or with
+ * {@link FusionKeyedSet#sortedIndex(String)} for range lookups too (e.g. on {@code DATE}, {@code INSTANT} or
+ * {@code INTEGER} fields).
+ * <p/>
+ * The index is maintained by its set, under the set's write lock, as fobs are put, replaced and removed.  Lookups
+ * never lock.  Null field values are indexed too, and sort first.
+ */
+public final class FusionIndex<T extends FusionObject>
+{
+    private final FusionFieldSchema _field;
+    private final ConcurrentMap<FusionValue, Set<T>> _map;
+
+    FusionIndex(FusionFieldSchema field, boolean sorted) {
+        _field = field;
+        if (sorted) {
+            requireSortable(field);
+            _map = new ConcurrentSkipListMap<>(FusionIndex::compare);
+        } else {
+            _map = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *       if the field's values are not ordered (ANY, LIST, MAP, OBJECT and BLOB fields)
+     */
+    static FusionFieldSchema requireSortable(FusionFieldSchema field) {
+        switch (field.domain().type()) {
+            case ANY, LIST, MAP, OBJECT, BLOB -> throw new IllegalArgumentException(
+                  "Cannot sort " + field.domain().type() + " field: " + field.name());
+        }
+        return field;
+    }
+
+    /**
+     * Like {@link FusionValue#compareTo(FusionValue)}, but null sorts first instead of not being comparable.
+     */
+    static int compare(FusionValue v1, FusionValue v2) {
+        if (v1.isNull()) {
+            return v2.isNull() ? 0 : -1;
+        } else if (v2.isNull()) {
+            return 1;
+        }
+        return v1.compareTo(v2);
+    }
+
+    public FusionFieldSchema field() {
+        return _field;
+    }
+
+    public boolean isSorted() {
+        return _map instanceof ConcurrentNavigableMap;
+    }
+
+    void add(T fob) {
+        _map.computeIfAbsent(fob.getfv(_field._i()), v -> ConcurrentHashMap.newKeySet()).add(fob);
+    }
+
+    void remove(T fob) {
+        var value = fob.getfv(_field._i());
+        var fobs = _map.get(value);
+        if (fobs != null) {
+            fobs.remove(fob);
+            if (fobs.isEmpty()) {
+                _map.remove(value, fobs);
+            }
+        }
+    }
+
+    void clear() {
+        _map.clear();
+    }
+
+    private FusionValue valueOf(Object javaValue) {
+        return _field.domain().type().from(javaValue, _field.domain());
+    }
+
+    /**
+     * @param value
+     *       java (or fusion) value of the field; null to look up fobs whose field is null
+     * @return live (unmodifiable) view of the fobs whose field has the value
+     */
+    public Set<T> get(Object value) {
+        var fobs = _map.get(valueOf(value));
+        return fobs == null ? Set.of() : Collections.unmodifiableSet(fobs);
+    }
+
+    /**
+     * @return number of distinct values of the field
+     */
+    public int distinctCount() {
+        return _map.size();
+    }
+
+    /**
+     * @param from
+     *       java (or fusion) value of the lower bound; null if unbounded
+     * @param to
+     *       java (or fusion) value of the upper bound; null if unbounded
+     * @return the fobs whose (non-null) field value is within the range, in value order
+     * @throws UnsupportedOperationException
+     *       if not sorted
+     */
+    public Collection<T> range(Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+        if (!(_map instanceof ConcurrentNavigableMap<FusionValue, Set<T>> map)) {
+            throw new UnsupportedOperationException("Not a sorted index: " + _field.name());
+        }
+        map = map.tailMap(from == null ? FusionValue.NULL : valueOf(from), from != null && fromInclusive);
+        if (to != null) {
+            map = map.headMap(valueOf(to), toInclusive);
+        }
+        return map.values().stream().flatMap(Set::stream).toList();
+    }
+
+    @Override
+    public String toString() {
+        return (isSorted() ? "sorted" : "hash") + "-index[" + _field.name() + "]";
+    }
+}
@@ -0,0 +1,388 @@
+package zer0g.fusion.data;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A set of readonly fobs of one fob-type, indexed by the schema's key fields ({@link FusionObjectSchema#_keyFields()}).
+ * A fob is looked up by a key fob ({@link FusionObjectType#makeKey()}), by any fob with the same key, or by its key
+ * values (see {@link #getByKey(Object...)}); at most one fob per key is held, so {@link #put(FusionObject)} replaces.
+ * <p/>
+ * A {@link #hashed(FusionObjectType)} set is backed by a {@link ConcurrentHashMap}, for O(1) lookups.  A
+ * {@link #sorted(FusionObjectType)} set is backed by a {@link ConcurrentSkipListMap} ordered by the key values, in
+ * key-field order, for range and (composite key) prefix scans.  Either way, lookups, scans and iteration never lock,
+ * and are safe concurrently with updates; updates are serialized, so that any {@link FusionIndex secondary indexes}
+ * stay consistent with the set.
+ */
+public final class FusionKeyedSet<T extends FusionObject> extends AbstractSet<T>
+{
+    private final FusionObjectType<T> _type;
+    private final FusionFieldSchema[] _keyFields;
+    private final ConcurrentMap<Key, T> _map;
+    /**
+     * Secondary indexes; copy-on-write, under the write lock.
+     */
+    private volatile FusionIndex<T>[] _indexes = new FusionIndex[0];
+    /**
+     * Serializes updates (and index creation) with the secondary indexes.
+     */
+    private final ReentrantLock _writeLock = new ReentrantLock();
+
+    private FusionKeyedSet(FusionObjectType<T> type, ConcurrentMap<Key, T> map) {
+        _type = type;
+        _keyFields = type.schema()._keyFields().toArray(new FusionFieldSchema[0]);
+        if (_keyFields.length == 0) {
+            throw new IllegalArgumentException("Fob-type has no key fields: " + type.name());
+        }
+        _map = map;
+    }
+
+    public static <T extends FusionObject> FusionKeyedSet<T> hashed(FusionObjectType<T> type) {
+        return new FusionKeyedSet<>(type, new ConcurrentHashMap<>());
+    }
+
+    public static <T extends FusionObject> FusionKeyedSet<T> sorted(FusionObjectType<T> type) {
+        return new FusionKeyedSet<>(type, new ConcurrentSkipListMap<>());
+    }
+
+    public FusionObjectType<T> type() {
+        return _type;
+    }
+
+    public boolean isSorted() {
+        return _map instanceof ConcurrentNavigableMap;
+    }
+
+    private Key keyOf(FusionObject keyOrFob) {
+        if (keyOrFob.type() != _type) {
+            throw new IllegalArgumentException("Not a fob of " + _type.name() + ": " + keyOrFob.type().name());
+        }
+        var values = new FusionValue[_keyFields.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = keyOrFob.getfv(_keyFields[i]._i());
+        }
+        return new Key(values, 0);
+    }
+
+    /**
+     * @param bound
+     *       for a partial key: -1 to sort before, or 1 to sort after, all the keys that it prefixes
+     */
+    private Key keyOf(Object[] keyValues, boolean partial, int bound) {
+        if (keyValues.length > _keyFields.length || (!partial && keyValues.length != _keyFields.length)) {
+            throw new IllegalArgumentException(
+                  "Expected " + _keyFields.length + " key values, got " + keyValues.length + " for " + _type.name());
+        }
+        var values = new FusionValue[keyValues.length];
+        for (int i = 0; i < values.length; i++) {
+            var domain = _keyFields[i].domain();
+            values[i] = domain.type().from(keyValues[i], domain);
+        }
+        return new Key(values, bound);
+    }
+
+    /**
+     * Adds the fob, replacing any fob with the same key.
+     *
+     * @return the replaced fob; null if none
+     * @throws IllegalStateException
+     *       if the fob is not readonly
+     */
+    public T put(T fob) {
+        _writeLock.lock();
+        try {
+            fob.state().requireReadonly();
+            var old = _map.put(keyOf(fob), fob);
+            for (FusionIndex<T> index : _indexes) {
+                if (old != null) {
+                    index.remove(old);
+                }
+                index.add(fob);
+            }
+            return old;
+        } finally {
+            _writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return true if there was no fob with the same key (see {@link #put(FusionObject)})
+     */
+    @Override
+    public boolean add(T fob) {
+        return put(fob) == null;
+    }
+
+    /**
+     * @param keyOrFob
+     *       a key fob, or any fob of the type
+     * @return the fob with the same key; null if none
+     */
+    public T get(FusionObject keyOrFob) {
+        return _map.get(keyOf(keyOrFob));
+    }
+
+    /**
+     * @param keyValues
+     *       java (or fusion) values of ALL the key fields, in key-field order
+     * @return the fob with the key; null if none
+     */
+    public T getByKey(Object... keyValues) {
+        return _map.get(keyOf(keyValues, false, 0));
+    }
+
+    public boolean containsKey(FusionObject keyOrFob) {
+        return _map.containsKey(keyOf(keyOrFob));
+    }
+
+    /**
+     * @return the removed fob with the same key; null if none
+     */
+    public T removeKey(FusionObject keyOrFob) {
+        _writeLock.lock();
+        try {
+            var old = _map.remove(keyOf(keyOrFob));
+            if (old != null) {
+                unindex(old);
+            }
+            return old;
+        } finally {
+            _writeLock.unlock();
+        }
+    }
+
+    private void unindex(T fob) {
+        for (FusionIndex<T> index : _indexes) {
+            index.remove(fob);
+        }
+    }
+
+    /**
+     * @return true if the set contains a fob EQUAL to the object (not just with the same key)
+     */
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof FusionObject fob && fob.type() == _type && fob.equals(get(fob));
+    }
+
+    /**
+     * Removes the fob only if the set contains a fob EQUAL to it; see {@link #removeKey(FusionObject)} to remove by
+     * key.
+     */
+    @Override
+    public boolean remove(Object o) {
+        _writeLock.lock();
+        try {
+            if (o instanceof FusionObject fob && fob.type() == _type) {
+                var key = keyOf(fob);
+                var present = _map.get(key);
+                if (fob.equals(present)) {
+                    _map.remove(key);
+                    unindex(present);
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            _writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        _writeLock.lock();
+        try {
+            _map.clear();
+            for (FusionIndex<T> index : _indexes) {
+                index.clear();
+            }
+        } finally {
+            _writeLock.unlock();
+        }
+    }
+
+    /**
+     * In key order if sorted.  Weakly consistent: never throws {@link java.util.ConcurrentModificationException}.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        var values = _map.values().iterator();
+        return new Iterator<>()
+        {
+            private T _last;
+
+            @Override
+            public boolean hasNext() {
+                return values.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return _last = values.next();
+            }
+
+            @Override
+            public void remove() {
+                if (_last == null) {
+                    throw new IllegalStateException();
+                }
+                FusionKeyedSet.this.remove(_last);
+                _last = null;
+            }
+        };
+    }
+
+    /**
+     * Creates (and populates) an equality index on the field, unless the field is already indexed.
+     *
+     * @return the field's index
+     */
+    public FusionIndex<T> hashIndex(String fieldName) {
+        return addIndex(fieldName, false);
+    }
+
+    /**
+     * Creates (and populates) a sorted index on the field, for range lookups, unless the field is already indexed.
+     *
+     * @return the field's index
+     * @throws IllegalStateException
+     *       if the field already has a hash index
+     */
+    public FusionIndex<T> sortedIndex(String fieldName) {
+        return addIndex(fieldName, true);
+    }
+
+    private FusionIndex<T> addIndex(String fieldName, boolean sorted) {
+        _writeLock.lock();
+        try {
+            var existing = index(fieldName);
+            if (existing != null) {
+                if (sorted && !existing.isSorted()) {
+                    throw new IllegalStateException("Field already has a hash index: " + fieldName);
+                }
+                return existing;
+            }
+            var index = new FusionIndex<T>(_type.schema().field(NoCaseString.nocase(fieldName)), sorted);
+            for (T fob : _map.values()) {
+                index.add(fob);
+            }
+            var indexes = Arrays.copyOf(_indexes, _indexes.length + 1);
+            indexes[_indexes.length] = index;
+            _indexes = indexes;
+            return index;
+        } finally {
+            _writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return the field's index; null if the field is not indexed
+     */
+    public FusionIndex<T> index(String fieldName) {
+        var name = NoCaseString.nocase(fieldName);
+        for (FusionIndex<T> index : _indexes) {
+            if (index.field().name().equals(name)) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public int size() {
+        return _map.size();
+    }
+
+    private ConcurrentNavigableMap<Key, T> navigable() {
+        if (_map instanceof ConcurrentNavigableMap<Key, T> navigable) {
+            return navigable;
+        }
+        throw new UnsupportedOperationException("Not a sorted keyed-set");
+    }
+
+    /**
+     * Scans, in key order, the fobs whose keys are within the range.
+     *
+     * @param fromKey
+     *       key fob (or fob) of the lower bound; null if unbounded
+     * @param toKey
+     *       key fob (or fob) of the upper bound; null if unbounded
+     * @return live view of the range
+     * @throws UnsupportedOperationException
+     *       if not sorted
+     */
+    public Collection<T> range(FusionObject fromKey, boolean fromInclusive, FusionObject toKey, boolean toInclusive) {
+        var map = navigable();
+        if (fromKey != null) {
+            map = map.tailMap(keyOf(fromKey), fromInclusive);
+        }
+        if (toKey != null) {
+            map = map.headMap(keyOf(toKey), toInclusive);
+        }
+        return map.values();
+    }
+
+    /**
+     * Scans, in key order, the fobs whose leading key fields have the values, e.g. all the lines of one order when the
+     * key is (orderId, lineNo).
+     *
+     * @param leadingKeyValues
+     *       java (or fusion) values of the first (up to all) key fields, in key-field order
+     * @return live view of the fobs with the key prefix
+     * @throws UnsupportedOperationException
+     *       if not sorted
+     */
+    public Collection<T> withPrefix(Object... leadingKeyValues) {
+        return navigable().subMap(keyOf(leadingKeyValues, true, -1), true, keyOf(leadingKeyValues, true, 1), true)
+                          .values();
+    }
+
+    /**
+     * Key values, in key-field order.  A partial key (fewer values) sorts before or after (per its bound) every key it
+     * is a prefix of; it is never equal to a full key.
+     */
+    private static final class Key implements Comparable<Key>
+    {
+        private final FusionValue[] _values;
+        private final int _bound;
+        private final int _hash;
+
+        private Key(FusionValue[] values, int bound) {
+            _values = values;
+            _bound = bound;
+            _hash = Arrays.hashCode(values);
+        }
+
+        @Override
+        public int hashCode() {
+            return _hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key o && _hash == o._hash && _bound == o._bound && Arrays.equals(_values, o._values);
+        }
+
+        @Override
+        public int compareTo(Key o) {
+            int n = Math.min(_values.length, o._values.length);
+            for (int i = 0; i < n; i++) {
+                int c = FusionIndex.compare(_values[i], o._values[i]);
+                if (c != 0) {
+                    return c;
+                }
+            }
+            if (_values.length == o._values.length) {
+                return Integer.compare(_bound, o._bound);
+            }
+            return _values.length < o._values.length ? (_bound <= 0 ? -1 : 1) : (o._bound <= 0 ? 1 : -1);
+        }
+    }
+}
@@ -16,7 +16,14 @@ import java.util.stream.Stream;
 
 final class FusionList<T> extends InitWriteReadStateData.Base implements List<T>
 {
-    final List<FusionValue> _inner;
+    /**
+     * A growable list while writable; replaced by an exact-size {@link FrozenValueList} once readonly.
+     */
+    List<FusionValue> _inner;
+    /**
+     * True if {@link #_inner} is shared (copy-on-write) with a clone or with the list this one was cloned from.
+     */
+    private boolean _innerShared;
     final FusionValueDomain _domain;
 
     FusionList(Collection<?> fromUser, FusionValueDomain domain) {
@@ -130,7 +137,7 @@ final class FusionList<T> extends InitWriteReadStateData.Base implements List<T>
     @Override
     public boolean add(T element) {
         state().requireWritable();
-        if (!_inner.add(wrap(element))) {
+        if (!writableInner().add(wrap(element))) {
             throw new AssertionError();
         }
         return true;
@@ -178,31 +185,35 @@ final class FusionList<T> extends InitWriteReadStateData.Base implements List<T>
     @Override
     public void clear() {
         state().requireWritable();
-        _inner.clear();
+        writableInner().clear();
     }
 
     @Override
     public T get(int index) {
-        return (T) inner().get(index).getinner();
+        var inner = inner();
+        if (inner instanceof FrozenValueList frozen) {
+            return (T) frozen.javaAt(index);
+        }
+        return (T) inner.get(index).getinner();
     }
 
     @Override
     public T set(int index, T element) {
         state().requireWritable();
-        var old = _inner.set(index, wrap(element));
+        var old = writableInner().set(index, wrap(element));
         return old != null ? (T) old.get() : null;
     }
 
     @Override
     public void add(int index, T element) {
         state().requireWritable();
-        _inner.add(index, wrap(element));
+        writableInner().add(index, wrap(element));
     }
 
     @Override
     public T remove(int index) {
         state().requireWritable();
-        return (T) _inner.remove(index).get();
+        return (T) writableInner().remove(index).get();
     }
 
     @Override
@@ -263,11 +274,34 @@ final class FusionList<T> extends InitWriteReadStateData.Base implements List<T>
 
     @Override
     protected void prepForIwrStateChange(IwrState nextState) {
-        if (!state().isInit()) {
-            // We CANNOT set _inner to an unmobifiable-list because it is final.  We do NOT need to do so anyway.
+        if (nextState.isReadonly()) {
+            _inner = FrozenValueList.freeze(_inner, valueDomain());
+        }
+    }
+
+    @Override
+    protected FusionList<T> clone() throws CloneNotSupportedException {
+        lock().lock();
+        try {
+            var clone = (FusionList<T>) super.clone();
+            clone._innerShared = true;
+            if (!state().isReadonly()) {
+                _innerShared = true;
+            }
+            return clone;
+        } finally {
+            lock().unlock();
         }
     }
 
+    private List<FusionValue> writableInner() {
+        if (_innerShared) {
+            _inner = new ArrayList<>(_inner);
+            _innerShared = false;
+        }
+        return _inner;
+    }
+
     private class DuaListIterator<T> implements ListIterator<T>
     {
         final ListIterator<? extends FusionValue> _innerIter;
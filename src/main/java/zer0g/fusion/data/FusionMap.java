@@ -4,26 +4,34 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
 
 final class FusionMap<T> extends InitWriteReadStateData.Base implements Map<NoCaseString, T>
 {
-    final Map<NoCaseString, FusionValue> _inner = new TreeMap<>();
+    /**
+     * Shared (copy-on-write) between a map and its clones until one of them is written to.
+     */
+    NoCaseMap<FusionValue> _inner;
+    private boolean _innerShared;
     final FusionValueDomain _domain;
 
     FusionMap(Map<NoCaseString, T> fromUser, FusionValueDomain domain) {
-        this(domain);
+        this(domain, fromUser.size());
         for (var entry : fromUser.entrySet()) {
             _inner.put(entry.getKey(), valueDomain().type().from(entry.getValue(), valueDomain()));
         }
     }
 
     public FusionMap(FusionValueDomain domain) {
+        this(domain, 0);
+    }
+
+    private FusionMap(FusionValueDomain domain, int expectedSize) {
         if (domain.type() != FusionValueType.MAP) {
             throw new IllegalArgumentException("" + domain.type());
         }
         assert (domain._itemDomain() != null);
         _domain = domain;
+        _inner = new NoCaseMap<>(expectedSize);
     }
 
     public FusionValueDomain valueDomain() {
@@ -62,8 +70,18 @@ final class FusionMap<T> extends InitWriteReadStateData.Base implements Map<NoCa
     }
 
     @Override
-    protected FusionMap<T> clone() {
-        throw new RuntimeException("todo");
+    protected FusionMap<T> clone() throws CloneNotSupportedException {
+        lock().lock();
+        try {
+            var clone = (FusionMap<T>) super.clone();
+            clone._innerShared = true;
+            if (!state().isReadonly()) {
+                _innerShared = true;
+            }
+            return clone;
+        } finally {
+            lock().unlock();
+        }
     }
 
     @Override
@@ -98,28 +116,46 @@ final class FusionMap<T> extends InitWriteReadStateData.Base implements Map<NoCa
     }
 
     @Override
-    public synchronized T put(NoCaseString key, T value) {
-        state().requireWritable();
-        var oldfv = inner().put(key, valueDomain().type().from(value, valueDomain()));
-        return oldfv != null ? (T) oldfv.getinner() : null;
+    public T put(NoCaseString key, T value) {
+        lock().lock();
+        try {
+            state().requireWritable();
+            var oldfv = writableInner().put(key, valueDomain().type().from(value, valueDomain()));
+            return oldfv != null ? (T) oldfv.getinner() : null;
+        } finally {
+            lock().unlock();
+        }
     }
 
     @Override
     public T remove(Object o) {
-        state().requireWritable();
-        throw new RuntimeException("todo");
+        lock().lock();
+        try {
+            state().requireWritable();
+            var oldfv = writableInner().remove(o);
+            return oldfv != null ? (T) oldfv.getinner() : null;
+        } finally {
+            lock().unlock();
+        }
     }
 
     @Override
     public void putAll(Map<? extends NoCaseString, ? extends T> m) {
         state().requireWritable();
-        throw new RuntimeException("todo");
+        for (var entry : m.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
     }
 
     @Override
     public void clear() {
-        state().requireWritable();
-        inner().clear();
+        lock().lock();
+        try {
+            state().requireWritable();
+            writableInner().clear();
+        } finally {
+            lock().unlock();
+        }
     }
 
     @Override
@@ -141,10 +177,24 @@ final class FusionMap<T> extends InitWriteReadStateData.Base implements Map<NoCa
         return _inner;
     }
 
+    private NoCaseMap<FusionValue> writableInner() {
+        if (_innerShared) {
+            _inner = _inner.copy();
+            _innerShared = false;
+        }
+        return _inner;
+    }
+
     @Override
     protected void prepForIwrStateChange(IwrState nextState) {
-        if (!state().isInit()) {
-            // We CANNOT set _inner to an unmobifiable-list because it is final.  We do NOT need to do so anyway.
+        if (nextState.isReadonly()) {
+            // Compact into canonical order; the frozen inner map also rejects any mutation that bypasses state().
+            // Freezing reorders the arrays in place, so never freeze an inner still shared with a writable clone.
+            if (_innerShared && !_inner.isFrozen()) {
+                _inner = _inner.copy();
+                _innerShared = false;
+            }
+            _inner.freeze();
         }
     }
 
@@ -0,0 +1,66 @@
+package zer0g.fusion.data;
+
+/**
+ * Optional instrumentation SPI, installed with {@link Fusion#setMetrics(FusionMetrics)}.
+ * <p/>
+ * While no metrics are installed (the default), every instrumented call-site costs only a read of a static field and
+ * a not-taken branch: no clock reads, no counting wrappers, no allocation.  Once installed, the callbacks are invoked
+ * synchronously on the calling thread, so implementations must be thread-safe and cheap.
+ * <p/>
+ * Two implementations are included: {@link InMemoryFusionMetrics}, which aggregates per-fob-type counters and latency
+ * histograms that can be {@link InMemoryFusionMetrics#snapshot() snapshot}, and {@link JfrFusionMetrics}, which emits
+ * JFR events for use with continuous flight recordings.
+ */
+public interface FusionMetrics
+{
+    /**
+     * An object of the fob-type was parsed by {@link JsonReader} (nested objects are reported individually).
+     *
+     * @param chars
+     *       number of json chars consumed for the object
+     * @param nanos
+     *       elapsed time
+     */
+    default void parsed(FusionObjectType type, long chars, long nanos) {
+    }
+
+    /**
+     * An object of the fob-type was written by {@link JsonWriter} (nested objects are reported individually).
+     *
+     * @param chars
+     *       number of json chars produced for the object
+     * @param nanos
+     *       elapsed time
+     */
+    default void written(FusionObjectType type, long chars, long nanos) {
+    }
+
+    /**
+     * A fob of the type was validated for an INIT/WRITE to WRITE/READ state transition.
+     *
+     * @param failed
+     *       true if the validation rejected the transition
+     */
+    default void validated(FusionObjectType type, long nanos, boolean failed) {
+    }
+
+    /**
+     * A java-value conversion had to go through {@link java.math.BigInteger} or {@link java.math.BigDecimal}.
+     *
+     * @param fromClass
+     *       the java-class of the value being converted
+     * @param toClass
+     *       the java-class being converted to
+     */
+    default void bigConversion(FusionValueType type, Class<?> fromClass, Class<?> toClass) {
+    }
+
+    /**
+     * {@link Fusion#fobType(String)} did not find the fob-type registered.
+     *
+     * @param resolved
+     *       true if it was then found by loading its generated class; false if the lookup failed
+     */
+    default void typeResolutionMiss(String id, boolean resolved) {
+    }
+}
@@ -36,6 +36,14 @@ public sealed interface FusionObject extends FusionData, InitWriteReadStateData,
      */
     boolean isKey();
 
+    /**
+     * @return the projection this PARTIAL fob was read with (its unprojected fields are absent: null, and not written
+     * as JSON); null if the fob is complete.  Readonly clones keep the projection; writable clones are complete.
+     */
+    default FusionProjection projection() {
+        return null;
+    }
+
     default String toJsonString() {
         try (StringWriter stringWriter = new StringWriter()) {
             new JsonWriter(stringWriter).visitObject(this);
@@ -117,7 +125,7 @@ public sealed interface FusionObject extends FusionData, InitWriteReadStateData,
                       "Fusion-object of schema without key-fields cannot be compared: " + getClass().getName());
             }
             for (FusionFieldSchema keyField : schema()._keyFields()) {
-                int c = getfv(keyField.name()).compareTo(o.getfv(keyField.name()));
+                int c = getfv(keyField._i()).compareTo(o.getfv(keyField._i()));
                 if (c != 0) {
                     return c;
                 }
@@ -205,40 +213,22 @@ public sealed interface FusionObject extends FusionData, InitWriteReadStateData,
         return (FusionObject) InitWriteReadStateData.super.cloneForRead();
     }
 
+    /**
+     * Sets the value at the path of field names (and list indexes, and map keys); see {@link FusionPath}, which should
+     * rather be compiled once if the path is used repeatedly.
+     */
     default FusionObject set(Path path, Object value) {
         state().requireWritable();
-        var fieldName = nocase(path.getName(0).toString());
-        if (path.getNameCount() == 1) {
-            set(fieldName, value);
-        } else {
-            var curval = getfv(fieldName);
-            if (null == curval || curval.isNull()) {
-                throw new IllegalArgumentException("Null object encountered in set-path!");
-            }
-            switch (curval.type()) {
-                case OBJECT -> ((FusionObjectBase) (curval.get())).set(path.subpath(1, path.getNameCount()), value);
-                case LIST -> throw new UnsupportedOperationException("TODO: Cannot path-into lists yet!");
-                default -> throw new IllegalArgumentException("Bad path: " + path);
-            }
-        }
+        FusionPath.of(path).set(this, value);
         return this;
     }
 
+    /**
+     * @return the java-value at the path of field names (and list indexes, and map keys); null if a value on the way is
+     * null.  See {@link FusionPath}.
+     */
     default Object get(Path path) {
-        var fieldName = nocase(path.getName(0).toString());
-        var fv = getfv(fieldName);
-        if (null == fv || fv.isNull()) {
-            return null;
-        }
-        if (path.getNameCount() == 1) {
-            return fv.get();
-        } else {
-            return switch (fv.type()) {
-                case OBJECT -> ((FusionObjectBase) fv.get()).get(path.subpath(1, path.getNameCount()));
-                case LIST -> throw new UnsupportedOperationException("TODO: Cannot path-into lists yet!");
-                default -> throw new IllegalArgumentException("Bad path: " + path);
-            };
-        }
+        return FusionPath.of(path).getfv(this).get();
     }
 
     default Object get(int i) {
@@ -3,10 +3,8 @@ package zer0g.fusion.data;
 import java.lang.reflect.Method;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -40,52 +38,97 @@ public sealed class FusionObjectBase extends InitWriteReadStateData.Base impleme
         Adhoc(FusionAdhocObjectType type) {
             super(type);
         }
+
+        private Adhoc(Adhoc copy) {
+            super(copy);
+        }
+
+        @Override
+        protected Adhoc clone() {
+            return new Adhoc(this);
+        }
     }
     /**
      * Set by {@link FusionObjectTypeBase#makeKey()}
      */
     boolean _isKey;
     protected final FusionObjectTypeBase _type;
-    protected final ArrayList<FusionValue> _valList;
+    /**
+     * Field values, by field index.  After a copy is made, the array is shared by the copy and the original until
+     * one of them is written to (copy-on-write); see {@link #writableValues()}.
+     */
+    private FusionValue[] _values;
+    private boolean _valuesShared;
+    /**
+     * Set only while {@link #initReadonly(FusionValue[])} publishes values that were already validated.
+     */
+    private boolean _prevalidated;
+    /**
+     * Set on the fob owned by a {@link FusionObjectRecycler}; such a fob may never leave INIT state.  Not copied.
+     */
+    boolean _recycled;
+    /**
+     * Set on a partial fob, read with a projection; see {@link #projection()}.
+     */
+    FusionProjection _projection;
 
     protected FusionObjectBase(FusionObjectTypeBase type) {
         _type = Objects.requireNonNull(type);
         var fields = type.schema().fields();
-        _valList = new ArrayList<>(fields.size());
+        _values = new FusionValue[fields.size()];
         for (FusionFieldSchema field : fields) {
-            _valList.add(field.defaultValue());
+            _values[field._i()] = field.defaultValue();
         }
     }
 
     protected FusionObjectBase(FusionObjectBase copy) {
         _type = copy._type;
         _isKey = copy._isKey;
-        _valList = new ArrayList<>(copy._valList);
+        _projection = copy._projection;
+        _values = copy._values;
+        _valuesShared = true;
+        if (!copy.state().isReadonly()) {
+            // A readonly original will never write, so only a writable one has to copy before its next write.
+            copy._valuesShared = true;
+        }
     }
 
     @Override
     public FusionObjectBase clone(IwrState wantedState) {
-        return (FusionObjectBase) super.clone(wantedState);
+        var clone = (FusionObjectBase) super.clone(wantedState);
+        if (clone != this && !wantedState.isReadonly()) {
+            // A writable clone of a partial fob is complete: any field set on it must be written.
+            clone._projection = null;
+        }
+        return clone;
     }
 
     @Override
     protected void prepForIwrStateChange(IwrState nextState) {
-        assert Thread.holdsLock(this);
-        // Does not matter if next state is WRITE or READ, ALL* fields must be null and range validated.
-        // If key-fob, then ALL* means all key-fields.
-        var fields = isKey() ? schema()._keyFields() : schema().fields();
-        List<String> errors = new LinkedList<>();
-        for (FusionFieldSchema field : fields) {
-            var fv = getfv(field._i());
-            if (fv.isNull()) {
-                if (!field.isNullable()) {
-                    throw new NullPointerException(type().name() + ": Field " + field.name() + " cannot be null!");
-                }
-            } else {
-                field.domain().validateRange(fv, errors);
-            }
+        assert lock().isHeldByCurrentThread();
+        requireNotRecycled();
+        if (_prevalidated) {
+            return;
+        }
+        var metrics = Fusion._metrics;
+        if (metrics == null) {
+            validate();
+            return;
         }
+        long startNanos = System.nanoTime();
+        boolean failed = true;
+        try {
+            validate();
+            failed = false;
+        } finally {
+            metrics.validated(type(), System.nanoTime() - startNanos, failed);
+        }
+    }
 
+    private void validate() {
+        // Does not matter if next state is WRITE or READ, ALL* fields must be null and range validated.
+        // If key-fob, then ALL* means all key-fields.
+        ((FusionObjectTypeBase<?>) type()).validator().requireValid(this);
     }
 
     @Override
@@ -93,6 +136,11 @@ public sealed class FusionObjectBase extends InitWriteReadStateData.Base impleme
         return _isKey;
     }
 
+    @Override
+    public FusionProjection projection() {
+        return _projection;
+    }
+
     @Override
     public final FusionValue getfv(NoCaseString fieldName) {
         return getfv(indexOf(fieldName));
@@ -148,12 +196,12 @@ public sealed class FusionObjectBase extends InitWriteReadStateData.Base impleme
         {
             @Override
             public int size() {
-                return _valList.size();
+                return _values.length;
             }
 
             @Override
             public boolean containsValue(Object value) {
-                return _valList.contains(value);
+                return Arrays.asList(_values).contains(value);
             }
 
             @Override
@@ -180,9 +228,14 @@ public sealed class FusionObjectBase extends InitWriteReadStateData.Base impleme
             }
 
             @Override
-            public synchronized void clear() {
-                state().requireWritable();
-                _valList.replaceAll(item -> FusionValue.NULL);
+            public void clear() {
+                lock().lock();
+                try {
+                    state().requireWritable();
+                    Arrays.fill(writableValues(), FusionValue.NULL);
+                } finally {
+                    lock().unlock();
+                }
             }
 
             @Override
@@ -197,7 +250,7 @@ public sealed class FusionObjectBase extends InitWriteReadStateData.Base impleme
 
                             @Override
                             public boolean hasNext() {
-                                return i < _valList.size();
+                                return i < _values.length;
                             }
 
                             @Override
@@ -205,7 +258,7 @@ public sealed class FusionObjectBase extends InitWriteReadStateData.Base impleme
                                 if (hasNext()) {
                                     var entry =
                                           new SimpleEntry<NoCaseString, FusionValue>(schema().fields().get(i).name(),
-                                                                                     _valList.get(i));
+                                                                                     _values[i]);
                                     ++i;
                                     return entry;
                                 } else {
@@ -217,7 +270,7 @@ public sealed class FusionObjectBase extends InitWriteReadStateData.Base impleme
 
                     @Override
                     public int size() {
-                        return _valList.size();
+                        return _values.length;
                     }
                 };
             }
@@ -226,7 +279,7 @@ public sealed class FusionObjectBase extends InitWriteReadStateData.Base impleme
 
     @Override
     public final FusionValue getfv(int i) {
-        return _valList.get(i);
+        return _values[i];
     }
 
     @Override
@@ -249,14 +302,62 @@ public sealed class FusionObjectBase extends InitWriteReadStateData.Base impleme
 
     private void reset(Stream<FusionFieldSchema> fields, Function<FusionFieldSchema, FusionValue> func) {
         state().requireWritable();
-        fields.forEach(f -> _valList.set(f._i(), func.apply(f)));
+        var values = writableValues();
+        fields.forEach(f -> values[f._i()] = func.apply(f));
     }
 
-    protected final synchronized FusionObjectBase setfv(int i, FusionValue value) {
-        state().requireWritable();
+    protected final FusionObjectBase setfv(int i, FusionValue value) {
+        lock().lock();
+        try {
+            state().requireWritable();
+
+            writableValues()[i] = value;
+            return this;
+        } finally {
+            lock().unlock();
+        }
+    }
 
-        _valList.set(i, value);
-        return this;
+    /**
+     * Fast path used by {@link FusionObjectTypeBase#makeReadonly(Object...)} and its builder: installs the supplied
+     * values, which MUST already be null-checked and range-validated for their fields, and transitions straight to
+     * {@link IwrState#READ}.  Custom bean state-change hooks still run.
+     *
+     * @param values
+     *       one value per schema field; the array is taken over, not copied
+     */
+    final FusionObjectBase initReadonly(FusionValue[] values) {
+        lock().lock();
+        try {
+            state().requireInit();
+            assert values.length == _values.length;
+            _values = values;
+            _valuesShared = false;
+            _prevalidated = true;
+            try {
+                doneWrite();
+            } finally {
+                _prevalidated = false;
+            }
+            return this;
+        } finally {
+            lock().unlock();
+        }
+    }
+
+    final void requireNotRecycled() {
+        if (_recycled) {
+            throw new IllegalStateException(
+                  type().name() + ": recycled fob cannot leave INIT state; keep a cloneForRead() instead!");
+        }
+    }
+
+    private FusionValue[] writableValues() {
+        if (_valuesShared) {
+            _values = _values.clone();
+            _valuesShared = false;
+        }
+        return _values;
     }
 
     @Override
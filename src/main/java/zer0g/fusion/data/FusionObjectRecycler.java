@@ -0,0 +1,46 @@
+package zer0g.fusion.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads a stream of objects of one fob-type by resetting and refilling the same fob, for pipelines that parse,
+ * inspect, and drop each record.  Created via {@link FusionObjectTypeBase#recycler(Reader)}.
+ * <p/>
+ * Lifetime rules for the recycled fob returned by {@link #next()}:
+ * <ul>
+ *     <li>It is OWNED by the recycler, and is only valid until the next call to {@link #next()}, which overwrites
+ *     it.  Do not retain it, or hand it to another thread.</li>
+ *     <li>It stays in INIT state.  Any attempt to transition it (doneInit, doneWrite, ensureReadonly), including
+ *     indirectly by assigning it as a field value of another fob, throws {@link IllegalStateException}.</li>
+ *     <li>To keep a record, take {@link FusionObject#cloneForRead()} (or cloneForWrite): the clone is a regular,
+ *     independent fob.</li>
+ *     <li>Fields absent from a record get their schema default values, as with {@link FusionObject#reset()}; values
+ *     assigned by a bean's constructor are NOT re-applied.</li>
+ * </ul>
+ * Not thread-safe.
+ *
+ * @param <T>
+ */
+public final class FusionObjectRecycler<T extends FusionObject>
+{
+    private final JsonReader _reader;
+    private final T _fob;
+
+    FusionObjectRecycler(FusionObjectTypeBase<T> type, Reader wire) {
+        _reader = new JsonReader(wire.markSupported() ? wire : new BufferedReader(wire));
+        _fob = type.make();
+        ((FusionObjectBase) _fob)._recycled = true;
+    }
+
+    /**
+     * @return the recycled fob refilled with the next object, or null if there are no more objects
+     * @throws IOException
+     *       if there is an i/o error, or the next object is malformed (the recycled fob is then in an undefined,
+     *       but still INIT, state)
+     */
+    public T next() throws IOException {
+        return _reader.readInto(_fob) ? _fob : null;
+    }
+}
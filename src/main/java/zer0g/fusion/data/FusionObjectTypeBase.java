@@ -5,6 +5,7 @@ import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
 import net.bytebuddy.matcher.ElementMatchers;
@@ -17,6 +18,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -24,10 +26,15 @@ public abstract non-sealed class FusionObjectTypeBase<T extends FusionObject> im
 {
     static final Method SCHEMA_METHOD;
     static final Method REGISTER_METHOD;
+    static final Method TYPE_INIT_BEGIN_METHOD;
+    static final Method TYPE_INIT_END_METHOD;
 
     static {
         try {
             REGISTER_METHOD = FusionObjectTypeBase.class.getDeclaredMethod("register");
+            TYPE_INIT_BEGIN_METHOD = FusionObjectTypeBase.class.getDeclaredMethod("typeInitBegin");
+            TYPE_INIT_END_METHOD = FusionObjectTypeBase.class.getDeclaredMethod("typeInitEnd", String.class,
+                                                                           FusionEvents.FobTypeInitialization.class);
             SCHEMA_METHOD = FusionObjectTypeBase.class.getMethod("schema");
         } catch (NoSuchMethodException e) {
             throw new RuntimeException(e);
@@ -57,6 +64,17 @@ public abstract non-sealed class FusionObjectTypeBase<T extends FusionObject> im
                         throw new IllegalArgumentException("Invalid range: " + annotation.range());
                     }
                 }
+                if (!annotation.regex().isEmpty()) {
+                    if (qt.type() != FusionValueType.STRING) {
+                        throw new IllegalArgumentException("Regex on non-string field: " + name);
+                    }
+                    var minmax = range.isNull() ? List.of() : (List<?>) range.get();
+                    var list = new ArrayList<Object>(Arrays.asList(null, null, annotation.regex()));
+                    for (int i = 0; i < minmax.size() && i < 2; i++) {
+                        list.set(i, minmax.get(i));
+                    }
+                    range = FusionValue.from(list);
+                }
             }
             domain = new FusionValueDomain(qt.type(), qt.qualifier(), range);
         }
@@ -103,11 +121,24 @@ public abstract non-sealed class FusionObjectTypeBase<T extends FusionObject> im
                                                                   .parameterizedType(List.class,
                                                                                      FusionFieldSchema.class).build(),
                                                             null);
+        var latentTypeInitField = new FieldDescription.Latent(builder.toTypeDescription(),
+                                                              "__typeInit",
+                                                              Modifier.STATIC | Modifier.PRIVATE,
+                                                              TypeDescription.Generic.Builder
+                                                                    .rawType(FusionEvents.FobTypeInitialization.class)
+                                                                    .build(),
+                                                              null);
         var latentCtor = new MethodDescription.Latent(builder.toTypeDescription(), new MethodDescription.Token(0));
-        builder = builder.define(latentFieldsField);
+        builder = builder.define(latentFieldsField).define(latentTypeInitField);
         builder = builder.invokable(ElementMatchers.isTypeInitializer())
-                         .intercept(FusionObjectTypeBase.initFieldsField(latentFieldsField, schema.fields())
-                                                        .andThen(MethodCall.construct(latentCtor)));
+                         .intercept(MethodCall.invoke(TYPE_INIT_BEGIN_METHOD).setsField(latentTypeInitField)
+                                              .andThen(FusionObjectTypeBase.initFieldsField(latentFieldsField,
+                                                                                            schema.fields()))
+                                              .andThen(MethodCall.construct(latentCtor))
+                                              .andThen(MethodCall.invoke(TYPE_INIT_END_METHOD)
+                                                                 .with(builder.toTypeDescription().getName())
+                                                                 .withField(latentTypeInitField.getName()))
+                                              .andThen(FieldAccessor.of(latentTypeInitField).setsDefaultValue()));
         builder = builder.defineConstructor(Visibility.PRIVATE).intercept(MethodCall.invoke(superCtor).onSuper()
                                                                                     .withMethodCall(MethodCall
                                                                                                           .construct(
@@ -152,6 +183,16 @@ public abstract non-sealed class FusionObjectTypeBase<T extends FusionObject> im
     }
 
     protected final FusionObjectSchema _schema;
+    private volatile FusionObjectValidator _validator;
+    /**
+     * The last writer-schema read with (by identity), and its resolution: a run of reads with the same schema skips the
+     * resolution cache, whose key is hashed and compared by value.
+     */
+    private volatile LastResolution _lastResolution;
+
+    private record LastResolution(FusionObjectSchema writer, FusionSchemaResolution resolution)
+    {
+    }
 
     public FusionObjectTypeBase(FusionObjectSchema schema) {
         schema.fields().forEach(f -> validateFieldName(f.name()));
@@ -164,6 +205,132 @@ public abstract non-sealed class FusionObjectTypeBase<T extends FusionObject> im
         }
     }
 
+    /**
+     * @return the validator compiled (once, lazily) from this type's schema
+     */
+    public final FusionObjectValidator validator() {
+        var validator = _validator;
+        if (validator == null) {
+            _validator = validator = new FusionObjectValidator(_schema);
+        }
+        return validator;
+    }
+
+    /**
+     * Creates a readonly fob directly from the supplied field values, without going through INIT/WRITE state.  Each
+     * value is converted, null-checked, and range-validated exactly once.
+     *
+     * @param values
+     *       one java-value (or fusion-value) per field, in schema field order
+     * @return a new fob in {@link InitWriteReadStateData.IwrState#READ} state
+     * @throws IllegalArgumentException
+     *       if the number of values does not match the schema, or a value is invalid for its field (a
+     *       {@link FusionDataType.ValidationException} if a non-nullable field is null)
+     */
+    public T makeReadonly(Object... values) {
+        var fields = schema().fields();
+        if (values.length != fields.size()) {
+            throw new IllegalArgumentException(
+                  name() + ": expected " + fields.size() + " field values, got " + values.length);
+        }
+        var fvs = new FusionValue[values.length];
+        for (int i = 0; i < fvs.length; i++) {
+            fvs[i] = requireNonNullable(fields.get(i), fieldValue(fields.get(i), values[i]));
+        }
+        return publishReadonly(fvs);
+    }
+
+    /**
+     * @return a new builder, with all fields set to their default values, that produces readonly fobs
+     */
+    public Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Accumulates field values and produces a readonly fob via {@link #build()}.  Each value is validated when set;
+     * {@link #build()} only checks that the non-nullable fields are not null (else it throws a
+     * {@link FusionDataType.ValidationException}).  A builder can be reused.
+     */
+    public final class Builder
+    {
+        private final FusionValue[] _values;
+
+        private Builder() {
+            var fields = schema().fields();
+            _values = new FusionValue[fields.size()];
+            for (FusionFieldSchema field : fields) {
+                _values[field._i()] = field.defaultValue();
+            }
+        }
+
+        public Builder set(String fieldName, Object value) {
+            return set(NoCaseString.nocase(fieldName), value);
+        }
+
+        public Builder set(NoCaseString fieldName, Object value) {
+            return set(schema().field(fieldName)._i(), value);
+        }
+
+        public Builder set(int i, Object value) {
+            _values[i] = fieldValue(schema().fields().get(i), value);
+            return this;
+        }
+
+        public T build() {
+            for (FusionFieldSchema field : schema().fields()) {
+                requireNonNullable(field, _values[field._i()]);
+            }
+            return publishReadonly(_values.clone());
+        }
+    }
+
+    private FusionValue fieldValue(FusionFieldSchema field, Object value) {
+        try {
+            return field.domain().type().from(value, field.domain());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for field " + field.name(), e);
+        }
+    }
+
+    private FusionValue requireNonNullable(FusionFieldSchema field, FusionValue fv) {
+        if (fv.isNull() && !field.isNullable()) {
+            throw new FusionDataType.ValidationException(name() + ": Field " + field.name() + " cannot be null!");
+        }
+        return fv;
+    }
+
+    /**
+     * @param values
+     *       one ALREADY VALIDATED value per field; the array is taken over, not copied
+     */
+    T publishReadonly(FusionValue[] values) {
+        return publishReadonly(values, null);
+    }
+
+    /**
+     * @param projection
+     *       the projection that the values were read with; null if all the values were read
+     */
+    T publishReadonly(FusionValue[] values, FusionProjection projection) {
+        var fob = make();
+        ((FusionObjectBase) fob)._projection = projection;
+        ((FusionObjectBase) fob).initReadonly(values);
+        return fob;
+    }
+
+    /**
+     * Opts in to "parse-and-discard" mode: the returned recycler reads successive objects from the wire into a single
+     * fob that it owns, instead of allocating a new fob per object.  See {@link FusionObjectRecycler} for the lifetime
+     * rules of the recycled fob.
+     *
+     * @param wire
+     *       the source of zero or more (whitespace/newline separated) JSON objects of this type
+     */
+    public FusionObjectRecycler<T> recycler(Reader wire) {
+        return new FusionObjectRecycler<>(this, wire);
+    }
+
     @Override
     public T makeKey() {
         if (schema()._keyFields().isEmpty()) {
@@ -204,6 +371,61 @@ public abstract non-sealed class FusionObjectTypeBase<T extends FusionObject> im
 
     }
 
+    /**
+     * Reads only the projected fields of the next object; the values of the other fields are skipped without being
+     * built.  See {@link FusionProjection}.
+     *
+     * @return a readonly, partial fob; null if the wire is at end-of-input
+     * @throws IOException
+     *       if there is an i/o error, or the object is malformed, or a projected value is invalid
+     */
+    public final T read(Reader wire, FusionProjection projection) throws IOException {
+        if (projection.type() != this) {
+            throw new IllegalArgumentException("Not a projection of " + name() + ": " + projection);
+        }
+        return (T) new JsonReader(wire).readProjected(projection);
+    }
+
+    public final T read(String json, FusionProjection projection) throws IOException {
+        return read(new StringReader(json), projection);
+    }
+
+    /**
+     * Reads an object written with an older (or newer) schema of this type: fields no longer in this type's schema are
+     * skipped, and fields added to it get their default values.  See {@link FusionSchemaResolution}.
+     *
+     * @param writerSchema
+     *       the schema the object was written with; null if unknown, to match fields by name alone
+     * @return a readonly fob; null if the wire is at end-of-input
+     * @throws IllegalArgumentException
+     *       if the writer-schema cannot be resolved to this type's schema
+     */
+    public final T read(Reader wire, FusionObjectSchema writerSchema) throws IOException {
+        var last = _lastResolution;
+        if (last == null || last.writer() != writerSchema) {
+            _lastResolution = last = new LastResolution(writerSchema, FusionSchemaResolution.of(writerSchema, this));
+        }
+        return (T) new JsonReader(wire).readResolved(last.resolution());
+    }
+
+    public final T read(String json, FusionObjectSchema writerSchema) throws IOException {
+        return read(new StringReader(json), writerSchema);
+    }
+
+    /**
+     * Called first thing by every generated fob-type's static initializer (see {@link FusionEvents}).
+     */
+    protected static FusionEvents.FobTypeInitialization typeInitBegin() {
+        return FusionEvents.typeInitBegin();
+    }
+
+    /**
+     * Called last thing by every generated fob-type's static initializer (see {@link FusionEvents}).
+     */
+    protected static void typeInitEnd(String fobTypeClassName, FusionEvents.FobTypeInitialization event) {
+        FusionEvents.typeInitEnd(fobTypeClassName, event);
+    }
+
     /**
      * Registers the fob-type.<p/> This method is called automatically when the fob-type class is constructed.
      */
@@ -0,0 +1,233 @@
+package zer0g.fusion.data;
+
+import zer0g.fusion.data.FusionDataType.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Validator compiled once per fob-type (see {@link FusionObjectTypeBase#validator()}) from its schema: the null and
+ * range checks of every field, plus the checks of nested objects and of list items / map values, run in a single pass
+ * over the fob's values.  Which checks apply to a field is decided once, when the validator is compiled; its range check
+ * is always its {@link FusionValueType}'s own.
+ * <p/>
+ * In {@link Mode#FAIL_FAST} mode the first failure throws a {@link ValidationException}; in {@link Mode#COLLECT_ALL}
+ * mode every failure is collected.  Each error message is prefixed by the path of the failing value, e.g.
+ * {@code "lines[2].qty: value less than 1: 0"}.
+ * <p/>
+ * Nested fobs that are already readonly are trusted, since they were validated on their own transition to READ.
+ */
+public final class FusionObjectValidator
+{
+    public enum Mode
+    {
+        FAIL_FAST,
+        COLLECT_ALL
+    }
+
+    private final FieldCheck[] _checks;
+    private final FieldCheck[] _keyChecks;
+
+    FusionObjectValidator(FusionObjectSchema schema) {
+        _checks = schema.fields().stream().map(FieldCheck::new).toArray(FieldCheck[]::new);
+        _keyChecks = schema._keyFields().stream().map(FieldCheck::new).toArray(FieldCheck[]::new);
+    }
+
+    private static FusionObjectValidator validatorOf(FusionObject fob) {
+        return ((FusionObjectTypeBase<?>) fob.type()).validator();
+    }
+
+    private static void failed(Loc loc, String error, List<String> errors) {
+        FusionDataType.validationFailed(loc + ": " + error, errors);
+    }
+
+    /**
+     * @return null if the domain needs no checks
+     */
+    private static ValueCheck compile(FusionValueDomain domain) {
+        ValueCheck rangeCheck = null;
+        var range = domain._compiledRange();
+        if (range != null) {
+            // The type owns its range semantics; only the location is added here.
+            var type = domain.type();
+            rangeCheck = (v, loc, e) -> {
+                try {
+                    type.validateRange(range, v);
+                } catch (ValidationException ex) {
+                    for (String error : ex.getErrors()) {
+                        failed(loc, error, e);
+                    }
+                }
+            };
+        }
+        ValueCheck nestedCheck = switch (domain.type()) {
+            case OBJECT -> (v, loc, e) -> {
+                var fob = (FusionObject) v;
+                if (!fob.state().isReadonly()) {
+                    validatorOf(fob).check(fob, loc, e);
+                }
+            };
+            case LIST -> {
+                var itemCheck = compile(domain._itemDomain());
+                yield itemCheck == null ? null : (v, loc, e) -> {
+                    var items = ((FusionList<?>) v).inner();
+                    for (int i = 0; i < items.size(); i++) {
+                        var item = items.get(i);
+                        if (!item.isNull()) {
+                            itemCheck.check(item.get(), new Loc(loc, null, i), e);
+                        }
+                    }
+                };
+            }
+            case MAP -> {
+                var valueCheck = compile(domain._itemDomain());
+                yield valueCheck == null ? null : (v, loc, e) -> {
+                    for (var entry : ((FusionMap<?>) v).inner().entrySet()) {
+                        if (!entry.getValue().isNull()) {
+                            valueCheck.check(entry.getValue().get(), new Loc(loc, entry.getKey().toString(), -1), e);
+                        }
+                    }
+                };
+            }
+            default -> null;
+        };
+        if (rangeCheck == null) {
+            return nestedCheck;
+        } else if (nestedCheck == null) {
+            return rangeCheck;
+        } else {
+            var first = rangeCheck;
+            return (v, loc, e) -> {
+                first.check(v, loc, e);
+                nestedCheck.check(v, loc, e);
+            };
+        }
+    }
+
+    /**
+     * @return the errors found; ALWAYS empty in {@link Mode#FAIL_FAST} mode, which throws on the first error instead
+     * @throws ValidationException
+     *       in {@link Mode#FAIL_FAST} mode, on the first error
+     */
+    public List<String> validate(FusionObject fob, Mode mode) throws ValidationException {
+        if (mode == Mode.FAIL_FAST) {
+            check(fob, null, null);
+            return List.of();
+        }
+        var errors = new ArrayList<String>();
+        check(fob, null, errors);
+        return errors;
+    }
+
+    /**
+     * Collects all errors of the fob, and throws them all in one exception if there are any.
+     *
+     * @throws ValidationException
+     *       with {@link ValidationException#getErrors()} listing every error
+     */
+    public void requireValid(FusionObject fob) throws ValidationException {
+        var errors = validate(fob, Mode.COLLECT_ALL);
+        if (!errors.isEmpty()) {
+            throw new ValidationException(Collections.unmodifiableList(errors));
+        }
+    }
+
+    /**
+     * Validates a batch of fobs, in parallel.  Each fob is validated by its own type's validator, so the batch may mix
+     * fob-types.
+     *
+     * @param mode
+     *       in {@link Mode#FAIL_FAST} mode, only the first error of each invalid fob is reported
+     */
+    public static Report validateAll(List<? extends FusionObject> fobs, Mode mode) {
+        var errors = new List[fobs.size()];
+        IntStream.range(0, fobs.size()).parallel().forEach(i -> {
+            var fob = fobs.get(i);
+            List<String> fobErrors;
+            try {
+                fobErrors = validatorOf(fob).validate(fob, mode);
+            } catch (ValidationException e) {
+                fobErrors = e.getErrors();
+            }
+            errors[i] = fobErrors;
+        });
+        var report = new TreeMap<Integer, List<String>>();
+        for (int i = 0; i < errors.length; i++) {
+            if (!errors[i].isEmpty()) {
+                report.put(i, errors[i]);
+            }
+        }
+        return new Report(fobs.size(), Collections.unmodifiableSortedMap(report));
+    }
+
+    void check(FusionObject fob, Loc parent, List<String> errors) {
+        for (FieldCheck field : fob.isKey() ? _keyChecks : _checks) {
+            var fv = fob.getfv(field._i);
+            if (fv.isNull()) {
+                if (!field._nullable) {
+                    failed(new Loc(parent, field._name, -1), "cannot be null", errors);
+                }
+            } else if (field._valueCheck != null) {
+                field._valueCheck.check(fv.get(), new Loc(parent, field._name, -1), errors);
+            }
+        }
+    }
+
+    /**
+     * @param count
+     *       number of fobs validated
+     * @param errors
+     *       errors of each invalid fob, by its index in the batch
+     */
+    public record Report(int count, SortedMap<Integer, List<String>> errors)
+    {
+        public boolean isValid() {
+            return errors.isEmpty();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueCheck
+    {
+        void check(Object javaVal, Loc loc, List<String> errors);
+    }
+
+    private static final class FieldCheck
+    {
+        private final int _i;
+        private final String _name;
+        private final boolean _nullable;
+        private final ValueCheck _valueCheck;
+
+        private FieldCheck(FusionFieldSchema field) {
+            _i = field._i();
+            _name = field.name().toString();
+            _nullable = field.isNullable();
+            _valueCheck = compile(field.domain());
+        }
+    }
+
+    /**
+     * Location of a value being checked; only turned into a path string if the check fails.
+     *
+     * @param name
+     *       field name or map key; null for a list item
+     * @param index
+     *       list index, if name is null
+     */
+    private record Loc(Loc parent, String name, int index)
+    {
+        @Override
+        public String toString() {
+            var pfx = parent == null ? "" : parent.toString();
+            if (name == null) {
+                return pfx + "[" + index + "]";
+            }
+            return pfx.isEmpty() ? name : pfx + "." + name;
+        }
+    }
+}
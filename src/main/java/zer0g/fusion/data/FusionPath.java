@@ -0,0 +1,459 @@
+package zer0g.fusion.data;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import static zer0g.fusion.data.NoCaseString.nocase;
+
+/**
+ * A path into a fob's (nested) values, parsed once and then evaluated against any number of fobs, e.g.
+ * {@code order.lines[0].sku}, {@code tags[-1]}, {@code lines[1:3].qty}, {@code attrs["x.y"]} or {@code lines[*].qty}.
+ * <p/>
+ * Segments are separated by dots, or given in brackets:
+ * <ul>
+ *     <li>{@code name}: a field of an object, or a (case-insensitive) key of a map; an integer name, e.g.
+ *     {@code lines.0}, is also an index into a list.</li>
+ *     <li>{@code ["key"]} (or single-quoted): a field or key that is not a plain name.</li>
+ *     <li>{@code [i]}: a list index; negative counts from the end.</li>
+ *     <li>{@code [from:to]}: a list slice, from inclusive to exclusive, either bound optional or negative.</li>
+ *     <li>{@code *} or {@code [*]}: all fields of an object, values of a map, or items of a list.</li>
+ * </ul>
+ * A path with a wildcard or slice may select many values ({@link #forEach(FusionObject, Consumer)}); otherwise it
+ * selects at most one ({@link #getfv(FusionObject)}), and can be {@link #set(FusionObject, Object)}.
+ * <p/>
+ * Field names are resolved to field indexes on first use against a schema, and re-resolved only when evaluated against
+ * a different schema, so evaluating a single-valued path allocates nothing.  Paths are immutable (the resolution cache
+ * is benignly racy) and thread-safe.
+ */
+public final class FusionPath
+{
+    private final String _expr;
+    private final Segment[] _segments;
+    private final boolean _isSingleValued;
+
+    private FusionPath(String expr, Segment[] segments) {
+        _expr = expr;
+        _segments = segments;
+        boolean single = true;
+        for (Segment segment : segments) {
+            single &= segment._kind != Kind.ALL && segment._kind != Kind.SLICE;
+        }
+        _isSingleValued = single;
+    }
+
+    /**
+     * @throws IllegalArgumentException
+     *       if the expression is malformed
+     */
+    public static FusionPath compile(String expr) {
+        return new FusionPath(expr, new Parser(expr).parse());
+    }
+
+    /**
+     * Compiles the expression, and resolves its first segment against the fob-type's schema.
+     *
+     * @throws IllegalArgumentException
+     *       if the expression is malformed, or its first segment is not a field of the fob-type
+     */
+    public static FusionPath compile(String expr, FusionObjectType<?> type) {
+        var path = compile(expr);
+        var first = path._segments[0];
+        if (first._kind == Kind.NAME) {
+            first.fieldIndex(type.schema());
+        } else if (first._kind != Kind.ALL) {
+            throw new IllegalArgumentException("Path does not start with a field: " + expr);
+        }
+        return path;
+    }
+
+    /**
+     * @return the path of the names of the file-system path, e.g. {@code lines/0/sku} as {@code lines.0.sku}
+     */
+    static FusionPath of(Path path) {
+        var segments = new Segment[path.getNameCount()];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = Segment.name(path.getName(i).toString(), true);
+        }
+        return new FusionPath(path.toString(), segments);
+    }
+
+    public boolean isSingleValued() {
+        return _isSingleValued;
+    }
+
+    /**
+     * @return the value at the path; {@link FusionValue#NULL} if a value on the way is null, an index is out of
+     * range, or a map key is absent
+     * @throws IllegalArgumentException
+     *       if the path is not single-valued, names a non-existent field, or goes into a scalar value
+     */
+    public FusionValue getfv(FusionObject fob) {
+        requireSingleValued();
+        FusionValue value = null;
+        Object container = fob;
+        for (Segment segment : _segments) {
+            value = segment.step(container, this);
+            if (value.isNull()) {
+                return FusionValue.NULL;
+            }
+            container = value.get();
+        }
+        return value;
+    }
+
+    /**
+     * @return {@code getfv(fob).getinner()}
+     */
+    public Object get(FusionObject fob) {
+        return getfv(fob).getinner();
+    }
+
+    /**
+     * Bulk {@link #getfv(FusionObject)}: the value at the path of each fob.
+     */
+    public FusionValue[] getfv(List<? extends FusionObject> fobs) {
+        requireSingleValued();
+        var values = new FusionValue[fobs.size()];
+        int i = 0;
+        for (FusionObject fob : fobs) {
+            values[i++] = getfv(fob);
+        }
+        return values;
+    }
+
+    /**
+     * Visits each (non-null) value selected by the path, in field/key/index order.
+     */
+    public void forEach(FusionObject fob, Consumer<? super FusionValue> action) {
+        forEach(fob, 0, action);
+    }
+
+    /**
+     * @return every (non-null) value selected by the path
+     */
+    public List<FusionValue> getAll(FusionObject fob) {
+        var values = new ArrayList<FusionValue>();
+        forEach(fob, values::add);
+        return values;
+    }
+
+    private void forEach(Object container, int k, Consumer<? super FusionValue> action) {
+        var segment = _segments[k];
+        boolean last = k == _segments.length - 1;
+        Consumer<FusionValue> next = value -> {
+            if (!value.isNull()) {
+                if (last) {
+                    action.accept(value);
+                } else {
+                    forEach(value.get(), k + 1, action);
+                }
+            }
+        };
+        switch (segment._kind) {
+            case NAME, INDEX -> next.accept(segment.step(container, this));
+            case ALL -> {
+                switch (container) {
+                    case FusionObject fob -> {
+                        for (int i = 0; i < fob.schema().fields().size(); i++) {
+                            next.accept(fob.getfv(i));
+                        }
+                    }
+                    case FusionMap<?> map -> map._inner.values().forEach(next);
+                    case FusionList<?> list -> list._inner.forEach(next);
+                    default -> throw badPath();
+                }
+            }
+            case SLICE -> {
+                if (!(container instanceof FusionList<?> list)) {
+                    throw badPath();
+                }
+                int size = list._inner.size();
+                int from = segment.bound(segment._from, 0, size), to = segment.bound(segment._to, size, size);
+                for (int i = from; i < to; i++) {
+                    next.accept(list._inner.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the value at the path.  The fob itself is set in place, so it must be writable; the values on the way to
+     * the path's end (nested fobs, lists and maps) are immutable, so each is copied with the one field, item or entry
+     * replaced, and the copy is set back into its container.
+     *
+     * @throws IllegalArgumentException
+     *       if the path is not single-valued, a value on the way is null or a scalar, or the value is invalid for the
+     *       field
+     * @throws IndexOutOfBoundsException
+     *       if a list index is out of range
+     */
+    public void set(FusionObject fob, Object value) {
+        requireSingleValued();
+        fob.state().requireWritable();
+        setIn(fob, 0, value);
+    }
+
+    /**
+     * @return the container, or its copy, with the value set
+     */
+    private Object setIn(Object container, int k, Object value) {
+        var segment = _segments[k];
+        boolean last = k == _segments.length - 1;
+        switch (container) {
+            case FusionObject fob -> {
+                if (segment._kind != Kind.NAME) {
+                    throw badPath();
+                }
+                int i = segment.fieldIndex(fob.schema());
+                var target = k == 0 ? fob : fob.cloneForInit();
+                target.set(i, last ? value : setIn(requireNonNull(fob.getfv(i)), k + 1, value));
+                return target;
+            }
+            case FusionList<?> list -> {
+                int i = segment.listIndex(list._inner.size(), this);
+                Objects.checkIndex(i, list._inner.size());
+                var copy = (FusionList<Object>) list.cloneForInit();
+                copy.set(i, last ? value : setIn(requireNonNull(list._inner.get(i)), k + 1, value));
+                return copy;
+            }
+            case FusionMap<?> map -> {
+                if (segment._kind != Kind.NAME) {
+                    throw badPath();
+                }
+                var copy = (FusionMap<Object>) map.cloneForInit();
+                var item = last ? value : setIn(requireNonNull(map._inner.get(segment._name)), k + 1, value);
+                copy.put(segment._name, item);
+                return copy;
+            }
+            default -> throw badPath();
+        }
+    }
+
+    private Object requireNonNull(FusionValue value) {
+        if (value == null || value.isNull()) {
+            throw new IllegalArgumentException("Null object encountered in set-path: " + _expr);
+        }
+        return value.get();
+    }
+
+    private void requireSingleValued() {
+        if (!_isSingleValued) {
+            throw new IllegalArgumentException("Not a single-valued path: " + _expr);
+        }
+    }
+
+    IllegalArgumentException badPath() {
+        return new IllegalArgumentException("Bad path: " + _expr);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof FusionPath o && o._expr.equals(_expr);
+    }
+
+    @Override
+    public int hashCode() {
+        return _expr.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return _expr;
+    }
+
+    private enum Kind
+    {
+        NAME, INDEX, SLICE, ALL
+    }
+
+    private static final class Segment
+    {
+        private static final int NO_INDEX = Integer.MIN_VALUE;
+
+        final Kind _kind;
+        final NoCaseString _name;
+        /**
+         * For INDEX, and for a NAME that is an integer; otherwise {@link #NO_INDEX}.
+         */
+        final int _index;
+        /**
+         * SLICE bounds; {@link #NO_INDEX} if omitted.
+         */
+        final int _from, _to;
+        /**
+         * The schema last evaluated against, and the field index of {@link #_name} in it.
+         */
+        private Resolved _resolved;
+
+        private Segment(Kind kind, NoCaseString name, int index, int from, int to) {
+            _kind = kind;
+            _name = name;
+            _index = index;
+            _from = from;
+            _to = to;
+        }
+
+        static Segment name(String name, boolean mayBeIndex) {
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty path segment");
+            }
+            if (mayBeIndex && name.equals("*")) {
+                return new Segment(Kind.ALL, null, NO_INDEX, NO_INDEX, NO_INDEX);
+            }
+            int index = NO_INDEX;
+            if (mayBeIndex) {
+                try {
+                    index = Integer.parseInt(name);
+                } catch (NumberFormatException e) {
+                    // Not an index.
+                }
+            }
+            return new Segment(Kind.NAME, nocase(name), index, NO_INDEX, NO_INDEX);
+        }
+
+        static Segment index(int index) {
+            return new Segment(Kind.INDEX, null, index, NO_INDEX, NO_INDEX);
+        }
+
+        static Segment slice(int from, int to) {
+            return new Segment(Kind.SLICE, null, NO_INDEX, from, to);
+        }
+
+        int fieldIndex(FusionObjectSchema schema) {
+            var resolved = _resolved;
+            if (resolved == null || resolved.schema != schema) {
+                _resolved = resolved = new Resolved(schema, schema.field(_name)._i());
+            }
+            return resolved.index;
+        }
+
+        int listIndex(int size, FusionPath path) {
+            if (_index == NO_INDEX) {
+                throw path.badPath();
+            }
+            return _index < 0 ? size + _index : _index;
+        }
+
+        int bound(int bound, int omitted, int size) {
+            if (bound == NO_INDEX) {
+                return omitted;
+            }
+            return Math.max(0, Math.min(size, bound < 0 ? size + bound : bound));
+        }
+
+        /**
+         * Applies a NAME or INDEX segment.
+         */
+        FusionValue step(Object container, FusionPath path) {
+            if (container instanceof FusionList<?> list) {
+                int i = listIndex(list._inner.size(), path);
+                return i >= 0 && i < list._inner.size() ? list._inner.get(i) : FusionValue.NULL;
+            }
+            if (_kind != Kind.NAME) {
+                throw path.badPath();
+            }
+            return switch (container) {
+                case FusionObject fob -> fob.getfv(fieldIndex(fob.schema()));
+                case FusionMap<?> map -> {
+                    var value = map._inner.get(_name);
+                    yield value == null ? FusionValue.NULL : value;
+                }
+                default -> throw path.badPath();
+            };
+        }
+    }
+
+    private record Resolved(FusionObjectSchema schema, int index)
+    {
+    }
+
+    private static final class Parser
+    {
+        private final String _expr;
+        private int _pos;
+
+        Parser(String expr) {
+            _expr = Objects.requireNonNull(expr);
+        }
+
+        Segment[] parse() {
+            var segments = new ArrayList<Segment>();
+            do {
+                if (!segments.isEmpty() && _expr.charAt(_pos) == '.') {
+                    _pos++;
+                }
+                if (_pos < _expr.length() && _expr.charAt(_pos) == '[') {
+                    segments.add(bracket());
+                } else {
+                    segments.add(name());
+                }
+                while (_pos < _expr.length() && _expr.charAt(_pos) == '[') {
+                    segments.add(bracket());
+                }
+                if (_pos < _expr.length() && _expr.charAt(_pos) != '.') {
+                    throw bad();
+                }
+            } while (_pos < _expr.length());
+            return segments.toArray(new Segment[0]);
+        }
+
+        private Segment name() {
+            int start = _pos;
+            while (_pos < _expr.length() && ".[]\"'".indexOf(_expr.charAt(_pos)) < 0) {
+                _pos++;
+            }
+            if (_pos == start) {
+                throw bad();
+            }
+            return Segment.name(_expr.substring(start, _pos), true);
+        }
+
+        private Segment bracket() {
+            int close = _expr.indexOf(']', ++_pos);
+            char c = _pos < _expr.length() ? _expr.charAt(_pos) : ']';
+            if (c == '"' || c == '\'') {
+                var key = new StringBuilder();
+                for (_pos++; _pos < _expr.length() && _expr.charAt(_pos) != c; _pos++) {
+                    if (_expr.charAt(_pos) == '\\' && _pos + 1 < _expr.length()) {
+                        _pos++;
+                    }
+                    key.append(_expr.charAt(_pos));
+                }
+                if (_pos + 1 >= _expr.length() || _expr.charAt(_pos + 1) != ']') {
+                    throw bad();
+                }
+                _pos += 2;
+                return Segment.name(key.toString(), false);
+            }
+            if (close < 0) {
+                throw bad();
+            }
+            var selector = _expr.substring(_pos, close).strip();
+            _pos = close + 1;
+            try {
+                if (selector.equals("*")) {
+                    return Segment.name("*", true);
+                }
+                int colon = selector.indexOf(':');
+                if (colon >= 0) {
+                    return Segment.slice(bound(selector.substring(0, colon)), bound(selector.substring(colon + 1)));
+                }
+                return Segment.index(Integer.parseInt(selector));
+            } catch (NumberFormatException e) {
+                throw bad();
+            }
+        }
+
+        private static int bound(String bound) {
+            bound = bound.strip();
+            return bound.isEmpty() ? Segment.NO_INDEX : Integer.parseInt(bound);
+        }
+
+        private IllegalArgumentException bad() {
+            return new IllegalArgumentException("Malformed path at " + _pos + ": " + _expr);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package zer0g.fusion.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static zer0g.fusion.data.NoCaseString.nocase;
+
+/**
+ * The subset of a fob-type's fields to read, for consumers that need only a few fields of large objects: see
+ * {@link FusionObjectTypeBase#read(java.io.Reader, FusionProjection)}.  The values of the other fields are skipped at
+ * the token level, without being built or validated.
+ * <p/>
+ * The fob read is readonly and PARTIAL: its {@link FusionObject#projection()} is this projection, its unprojected
+ * fields are absent (null, so their primitive bean getters throw; omitted when written as JSON), and only its
+ * projected fields were validated.
+ * <p/>
+ * A projection is made from field paths: {@code "id"} projects the whole value of a field, while {@code "main.sku"}
+ * projects only the {@code sku} field of the nested fob in {@code main}; if {@code main} is a list of fobs, of each
+ * fob in the list.
+ */
+public final class FusionProjection
+{
+    private final FusionObjectType<?> _type;
+    private final BitSet _fields;
+    /**
+     * Projection of the nested fob(s) of a field, by field index; a projected field without an entry is read whole.
+     */
+    private final Map<Integer, FusionProjection> _nested;
+
+    private FusionProjection(FusionObjectType<?> type, BitSet fields, Map<Integer, FusionProjection> nested) {
+        _type = type;
+        _fields = fields;
+        _nested = nested;
+    }
+
+    public static FusionProjection of(FusionObjectType<?> type, String... paths) {
+        return of(type, Arrays.asList(paths));
+    }
+
+    /**
+     * @param paths
+     *       dotted field paths, e.g. {@code id} or {@code lines.sku}
+     * @throws IllegalArgumentException
+     *       if a path names a non-existent field, or goes into a field that holds neither a fob nor a list of fobs
+     */
+    public static FusionProjection of(FusionObjectType<?> type, List<String> paths) {
+        var schema = type.schema();
+        var fields = new BitSet();
+        var wholes = new BitSet();
+        var subpaths = new HashMap<Integer, List<String>>();
+        for (String path : paths) {
+            int dot = path.indexOf('.');
+            var field = schema.field(nocase(dot < 0 ? path : path.substring(0, dot)));
+            fields.set(field._i());
+            if (dot < 0) {
+                wholes.set(field._i());
+            } else {
+                subpaths.computeIfAbsent(field._i(), i -> new ArrayList<>()).add(path.substring(dot + 1));
+            }
+        }
+        var nested = new HashMap<Integer, FusionProjection>();
+        subpaths.forEach((i, sub) -> {
+            if (!wholes.get(i)) {
+                nested.put(i, of(nestedType(schema.fields().get(i)), sub));
+            }
+        });
+        return new FusionProjection(type, fields, Map.copyOf(nested));
+    }
+
+    private static FusionObjectType<?> nestedType(FusionFieldSchema field) {
+        var domain = field.domain();
+        if (domain.type() == FusionValueType.LIST) {
+            domain = domain._itemDomain();
+        }
+        if (domain.type() != FusionValueType.OBJECT || domain.qualifier() == null) {
+            throw new IllegalArgumentException("Cannot project into " + field.domain().type() + " field: " +
+                                               field.name());
+        }
+        return Fusion.fobType(domain.qualifier());
+    }
+
+    public FusionObjectType<?> type() {
+        return _type;
+    }
+
+    public boolean includes(int fieldIndex) {
+        return _fields.get(fieldIndex);
+    }
+
+    public boolean includes(String fieldName) {
+        return includes(_type.schema().field(nocase(fieldName))._i());
+    }
+
+    /**
+     * @return the projection of the nested fob(s) of the field; null if the field is read whole (or not at all)
+     */
+    FusionProjection nested(int fieldIndex) {
+        return _nested.get(fieldIndex);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof FusionProjection o && o._type == _type && o._fields.equals(_fields) &&
+               o._nested.equals(_nested);
+    }
+
+    @Override
+    public int hashCode() {
+        return _fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return _type.name() + _fields.stream().mapToObj(i -> {
+            var name = _type.schema().fields().get(i).name().toString();
+            var nested = _nested.get(i);
+            return nested == null ? name : name + nested.toString().substring(nested._type.name().length());
+        }).collect(Collectors.joining(",", "{", "}"));
+    }
+}
@@ -0,0 +1,569 @@
+package zer0g.fusion.data;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Filters and aggregates the rows of a {@link FusionTable} column-wise, without materializing fobs.  Created via
+ * {@link FusionTable#query()}; fields are named as in the table's schema, and values are converted to the field's
+ * domain as they would be by {@link FusionObject#set(String, Object)}.
+ * <p/>
+ * The rows are scanned in segments of {@value #SEGMENT_ROWS} rows, in parallel (fork-join) unless disabled by
+ * {@link #parallel(boolean)}.  Each segment starts with a selection vector of all its rows, which each predicate
+ * compacts, in a tight loop over the primitive column array (or the dictionary codes) of its field; the surviving rows
+ * are then counted, aggregated, or grouped.
+ * <p/>
+ * As in SQL, a null value matches no comparison (only {@link #whereNull(String)}), and is skipped by aggregates other
+ * than {@code count()}.
+ * <p/>
+ * Not thread-safe, and the table must not be appended to while the query runs.
+ */
+public final class FusionQuery<T extends FusionObject>
+{
+    static final int SEGMENT_ROWS = 1 << 14;
+
+    public enum Op
+    {
+        EQ, NE, LT, LE, GT, GE;
+
+        /**
+         * @param c
+         *       result of comparing a value with the operand
+         */
+        boolean test(int c) {
+            return switch (this) {
+                case EQ -> c == 0;
+                case NE -> c != 0;
+                case LT -> c < 0;
+                case LE -> c <= 0;
+                case GT -> c > 0;
+                case GE -> c >= 0;
+            };
+        }
+    }
+
+    public enum Aggregate
+    {
+        /**
+         * Number of non-null values; of rows if no field is named.
+         */
+        COUNT,
+        /**
+         * Sum of an INTEGER (as long) or float/double DECIMAL (as double) field.
+         */
+        SUM,
+        MIN,
+        MAX,
+        /**
+         * Average (as double) of an INTEGER or float/double DECIMAL field.
+         */
+        AVG
+    }
+
+    private final FusionTable<T> _table;
+    /**
+     * Compiled when the query runs, since the column arrays (and dictionaries) grow as rows are appended.
+     */
+    private final List<Supplier<Filter>> _filters = new ArrayList<>();
+    private boolean _parallel = true;
+
+    FusionQuery(FusionTable<T> table) {
+        _table = table;
+    }
+
+    /**
+     * @param parallel
+     *       false to scan the segments in the calling thread only
+     */
+    public FusionQuery<T> parallel(boolean parallel) {
+        _parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Keeps the rows whose field value compares to the operand per the op.  Ordering ops (LT, LE, GT, GE) need an
+     * ordered field, i.e. not ANY, LIST, MAP, OBJECT or BLOB.
+     *
+     * @param value
+     *       java (or fusion) value of the operand; not null
+     */
+    public FusionQuery<T> where(String fieldName, Op op, Object value) {
+        var column = _table.column(fieldName);
+        var field = column._field;
+        if (op != Op.EQ && op != Op.NE) {
+            FusionIndex.requireSortable(field);
+        }
+        var operand = field.domain().type().from(value, field.domain());
+        if (operand.isNull()) {
+            throw new IllegalArgumentException("Null operand for field " + field.name() + "; use whereNull()");
+        }
+        _filters.add(() -> switch (column) {
+            case FusionTable.LongColumn c -> c.hasNanos() ? nanosFilter(c, op, operand) : longFilter(c, op, operand);
+            case FusionTable.DoubleColumn c -> doubleFilter(c, op, operand);
+            case FusionTable.DictColumn c -> dictFilter(c, op, operand);
+            case FusionTable.BoolColumn c -> boolFilter(c, op, operand);
+            case FusionTable.ValueColumn c -> valueFilter(c, op, operand);
+        });
+        return this;
+    }
+
+    public FusionQuery<T> whereNull(String fieldName) {
+        return whereNull(_table.column(fieldName), true);
+    }
+
+    public FusionQuery<T> whereNotNull(String fieldName) {
+        return whereNull(_table.column(fieldName), false);
+    }
+
+    private FusionQuery<T> whereNull(FusionTable.Column column, boolean isNull) {
+        _filters.add(() -> (sel, n) -> {
+            int m = 0;
+            for (int k = 0; k < n; k++) {
+                int row = sel[k];
+                if (column.isNull(row) == isNull) {
+                    sel[m++] = row;
+                }
+            }
+            return m;
+        });
+        return this;
+    }
+
+    /**
+     * @return numbers of the matching rows, in ascending order
+     */
+    public int[] select() {
+        var selections = scan(s -> s).toList();
+        int count = 0;
+        for (Selection s : selections) {
+            count += s.count;
+        }
+        var rows = new int[count];
+        int pos = 0;
+        for (Selection s : selections) {
+            System.arraycopy(s.rows, 0, rows, pos, s.count);
+            pos += s.count;
+        }
+        return rows;
+    }
+
+    /**
+     * @return view of the matching rows, each materialized (as by {@link FusionTable#get(int)}) when gotten
+     */
+    public List<T> list() {
+        var rows = select();
+        return new AbstractList<>()
+        {
+            @Override
+            public T get(int index) {
+                return _table.get(rows[index]);
+            }
+
+            @Override
+            public int size() {
+                return rows.length;
+            }
+        };
+    }
+
+    /**
+     * @return number of matching rows
+     */
+    public long count() {
+        return scan(s -> (long) s.count).reduce(0L, Long::sum);
+    }
+
+    /**
+     * @param fieldName
+     *       the aggregated field; may be null for {@link Aggregate#COUNT}
+     * @return the aggregate of the field over the matching rows; {@link FusionValue#NULL} if there are no (non-null)
+     * values, except for COUNT
+     * @throws ArithmeticException
+     *       if a long SUM overflows
+     */
+    public FusionValue aggregate(Aggregate aggregate, String fieldName) {
+        var aggregator = new Aggregator(aggregate, fieldName);
+        return aggregator.result(scan(s -> {
+            var acc = new Acc();
+            aggregator.addAll(acc, s.rows, s.count);
+            return acc;
+        }).reduce(aggregator::merge).orElseGet(Acc::new));
+    }
+
+    /**
+     * Aggregates the matching rows per distinct value of the group field.
+     *
+     * @param groupFieldName
+     *       an ordered field (not ANY, LIST, MAP, OBJECT or BLOB); null values form a group too
+     * @param fieldName
+     *       the aggregated field; may be null for {@link Aggregate#COUNT}
+     * @return the aggregate of each group (that has matching rows), ordered by the group value, nulls first
+     */
+    public SortedMap<FusionValue, FusionValue> groupBy(String groupFieldName, Aggregate aggregate, String fieldName) {
+        var group = _table.column(groupFieldName);
+        FusionIndex.requireSortable(group._field);
+        var aggregator = new Aggregator(aggregate, fieldName);
+        var groups = scan(s -> {
+            var accs = new HashMap<FusionValue, Acc>();
+            if (group instanceof FusionTable.DictColumn dict) {
+                // Accumulate by dictionary code, then look up each code's value once.
+                var byCode = new Acc[dict.dictionary().size() + 1];
+                var codes = dict.codes();
+                for (int k = 0; k < s.count; k++) {
+                    int row = s.rows[k];
+                    int i = dict.isNull(row) ? byCode.length - 1 : codes[row];
+                    var acc = byCode[i];
+                    if (acc == null) {
+                        byCode[i] = acc = new Acc();
+                    }
+                    aggregator.add(acc, row);
+                }
+                for (int i = 0; i < byCode.length; i++) {
+                    if (byCode[i] != null) {
+                        accs.put(i == byCode.length - 1 ? FusionValue.NULL : dict.dictionary().get(i), byCode[i]);
+                    }
+                }
+            } else {
+                for (int k = 0; k < s.count; k++) {
+                    int row = s.rows[k];
+                    aggregator.add(accs.computeIfAbsent(group.getfv(row), v -> new Acc()), row);
+                }
+            }
+            return accs;
+        }).reduce((m1, m2) -> {
+            m2.forEach((value, acc) -> m1.merge(value, acc, aggregator::merge));
+            return m1;
+        }).orElseGet(HashMap::new);
+        var results = new TreeMap<FusionValue, FusionValue>(FusionIndex::compare);
+        groups.forEach((value, acc) -> results.put(value, aggregator.result(acc)));
+        return Collections.unmodifiableSortedMap(results);
+    }
+
+    /**
+     * Runs the filters over each segment, in parallel unless disabled.
+     *
+     * @return the per-segment results, in segment order
+     */
+    private <R> Stream<R> scan(Function<Selection, R> action) {
+        int size = _table.size();
+        int segments = (size + SEGMENT_ROWS - 1) / SEGMENT_ROWS;
+        var filters = _filters.stream().map(Supplier::get).toList();
+        var stream = IntStream.range(0, segments);
+        if (_parallel && segments > 1) {
+            stream = stream.parallel();
+        }
+        return stream.mapToObj(segment -> {
+            int from = segment * SEGMENT_ROWS, to = Math.min(size, from + SEGMENT_ROWS);
+            var rows = new int[to - from];
+            Arrays.setAll(rows, k -> from + k);
+            int count = rows.length;
+            for (Filter filter : filters) {
+                count = filter.apply(rows, count);
+            }
+            return action.apply(new Selection(rows, count));
+        });
+    }
+
+    private record Selection(int[] rows, int count)
+    {
+    }
+
+    /**
+     * Compacts a selection vector in place.
+     */
+    private interface Filter
+    {
+        /**
+         * @param sel
+         *       row numbers, ascending
+         * @param n
+         *       number of (leading) row numbers in sel
+         * @return number of leading row numbers that remain in sel
+         */
+        int apply(int[] sel, int n);
+    }
+
+    /**
+     * The op as an inclusive [lo, hi] range (negated for NE), so the loop is just two compares.
+     */
+    private static Filter longFilter(FusionTable.LongColumn column, Op op, FusionValue operand) {
+        long x = FusionTable.LongColumn.encode(operand.get());
+        long lo = Long.MIN_VALUE, hi = Long.MAX_VALUE;
+        switch (op) {
+            case EQ, NE -> lo = hi = x;
+            case LT -> hi = x - 1;
+            case LE -> hi = x;
+            case GT -> lo = x + 1;
+            case GE -> lo = x;
+        }
+        if ((op == Op.LT && x == Long.MIN_VALUE) || (op == Op.GT && x == Long.MAX_VALUE)) {
+            return (sel, n) -> 0;
+        }
+        long min = lo, max = hi;
+        boolean in = op != Op.NE;
+        var values = column.values();
+        return (sel, n) -> {
+            boolean nulls = column.hasNulls();
+            int m = 0;
+            for (int k = 0; k < n; k++) {
+                int row = sel[k];
+                long v = values[row];
+                if ((v >= min && v <= max) == in && !(nulls && column.isNull(row))) {
+                    sel[m++] = row;
+                }
+            }
+            return m;
+        };
+    }
+
+    private static Filter nanosFilter(FusionTable.LongColumn column, Op op, FusionValue operand) {
+        long x = FusionTable.LongColumn.encode(operand.get());
+        int xn = FusionTable.LongColumn.nanosOf(operand.get());
+        var values = column.values();
+        var nanos = column.nanos();
+        return (sel, n) -> {
+            boolean nulls = column.hasNulls();
+            int m = 0;
+            for (int k = 0; k < n; k++) {
+                int row = sel[k];
+                int c = Long.compare(values[row], x);
+                if (op.test(c != 0 ? c : Integer.compare(nanos[row], xn)) && !(nulls && column.isNull(row))) {
+                    sel[m++] = row;
+                }
+            }
+            return m;
+        };
+    }
+
+    private static Filter doubleFilter(FusionTable.DoubleColumn column, Op op, FusionValue operand) {
+        double x = ((Number) operand.get()).doubleValue();
+        double lo = Double.NEGATIVE_INFINITY, hi = Double.POSITIVE_INFINITY;
+        switch (op) {
+            case EQ, NE -> lo = hi = x;
+            case LT -> hi = Math.nextDown(x);
+            case LE -> hi = x;
+            case GT -> lo = Math.nextUp(x);
+            case GE -> lo = x;
+        }
+        double min = lo, max = hi;
+        boolean in = op != Op.NE;
+        var values = column.values();
+        return (sel, n) -> {
+            boolean nulls = column.hasNulls();
+            int m = 0;
+            for (int k = 0; k < n; k++) {
+                int row = sel[k];
+                double v = values[row];
+                if ((v >= min && v <= max) == in && !(nulls && column.isNull(row))) {
+                    sel[m++] = row;
+                }
+            }
+            return m;
+        };
+    }
+
+    /**
+     * Evaluates the op once per dictionary entry, so the loop is a lookup by code.
+     */
+    private static Filter dictFilter(FusionTable.DictColumn column, Op op, FusionValue operand) {
+        var dict = column.dictionary();
+        var match = new boolean[dict.size()];
+        for (int i = 0; i < match.length; i++) {
+            var value = dict.get(i);
+            match[i] = op == Op.EQ || op == Op.NE ? value.equals(operand) == (op == Op.EQ)
+                                                  : op.test(value.compareTo(operand));
+        }
+        var codes = column.codes();
+        return (sel, n) -> {
+            boolean nulls = column.hasNulls();
+            int m = 0;
+            for (int k = 0; k < n; k++) {
+                int row = sel[k];
+                if (match[codes[row]] && !(nulls && column.isNull(row))) {
+                    sel[m++] = row;
+                }
+            }
+            return m;
+        };
+    }
+
+    private static Filter boolFilter(FusionTable.BoolColumn column, Op op, FusionValue operand) {
+        boolean x = (Boolean) operand.get();
+        boolean matchFalse = op.test(Boolean.compare(false, x)), matchTrue = op.test(Boolean.compare(true, x));
+        return (sel, n) -> {
+            int m = 0;
+            for (int k = 0; k < n; k++) {
+                int row = sel[k];
+                if ((column.get(row) ? matchTrue : matchFalse) && !column.isNull(row)) {
+                    sel[m++] = row;
+                }
+            }
+            return m;
+        };
+    }
+
+    private static Filter valueFilter(FusionTable.ValueColumn column, Op op, FusionValue operand) {
+        return (sel, n) -> {
+            int m = 0;
+            for (int k = 0; k < n; k++) {
+                int row = sel[k];
+                if (!column.isNull(row)) {
+                    var value = column.value(row);
+                    if (op == Op.EQ || op == Op.NE ? value.equals(operand) == (op == Op.EQ)
+                                                   : op.test(value.compareTo(operand))) {
+                        sel[m++] = row;
+                    }
+                }
+            }
+            return m;
+        };
+    }
+
+    /**
+     * Partial aggregate, of one segment (or group within a segment), merged into the total.
+     */
+    private static final class Acc
+    {
+        private long _count;
+        private long _longSum;
+        private double _doubleSum;
+        /**
+         * Row of the MIN or MAX value so far; -1 if none.
+         */
+        private int _best = -1;
+    }
+
+    private final class Aggregator
+    {
+        private final Aggregate _aggregate;
+        /**
+         * Null for COUNT of rows.
+         */
+        private final FusionTable.Column _column;
+        private final long[] _longs;
+        private final double[] _doubles;
+
+        private Aggregator(Aggregate aggregate, String fieldName) {
+            _aggregate = aggregate;
+            if (fieldName == null) {
+                if (aggregate != Aggregate.COUNT) {
+                    throw new IllegalArgumentException(aggregate + " needs a field");
+                }
+                _column = null;
+            } else {
+                _column = _table.column(fieldName);
+            }
+            switch (aggregate) {
+                case SUM, AVG -> {
+                    var type = _column._field.domain().type();
+                    if (!(_column instanceof FusionTable.DoubleColumn) &&
+                        !(_column instanceof FusionTable.LongColumn && type == FusionValueType.INTEGER))
+                    {
+                        throw new IllegalArgumentException(
+                              "Cannot " + aggregate + " " + type + " field: " + _column._field.name());
+                    }
+                }
+                case MIN, MAX -> FusionIndex.requireSortable(_column._field);
+            }
+            _longs = _column instanceof FusionTable.LongColumn c ? c.values() : null;
+            _doubles = _column instanceof FusionTable.DoubleColumn c ? c.values() : null;
+        }
+
+        /**
+         * Tight loops for the common cases; otherwise {@link #add(Acc, int)} row by row.
+         */
+        void addAll(Acc acc, int[] sel, int n) {
+            if (_column == null) {
+                acc._count += n;
+            } else if (_column.hasNulls() || _aggregate == Aggregate.MIN || _aggregate == Aggregate.MAX) {
+                for (int k = 0; k < n; k++) {
+                    add(acc, sel[k]);
+                }
+            } else if (_aggregate == Aggregate.COUNT) {
+                acc._count += n;
+            } else if (_longs != null) {
+                long sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum = Math.addExact(sum, _longs[sel[k]]);
+                }
+                acc._longSum = Math.addExact(acc._longSum, sum);
+                acc._count += n;
+            } else {
+                double sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum += _doubles[sel[k]];
+                }
+                acc._doubleSum += sum;
+                acc._count += n;
+            }
+        }
+
+        void add(Acc acc, int row) {
+            if (_column == null) {
+                acc._count++;
+                return;
+            }
+            if (_column.isNull(row)) {
+                return;
+            }
+            acc._count++;
+            switch (_aggregate) {
+                case COUNT -> {
+                }
+                case SUM, AVG -> {
+                    if (_longs != null) {
+                        acc._longSum = Math.addExact(acc._longSum, _longs[row]);
+                    } else {
+                        acc._doubleSum += _doubles[row];
+                    }
+                }
+                case MIN, MAX -> acc._best = better(acc._best, row);
+            }
+        }
+
+        private int better(int best, int row) {
+            if (best < 0) {
+                return row;
+            }
+            if (row < 0) {
+                return best;
+            }
+            int c = _column.compareRows(row, best);
+            return (_aggregate == Aggregate.MIN ? c < 0 : c > 0) ? row : best;
+        }
+
+        Acc merge(Acc a1, Acc a2) {
+            a1._count += a2._count;
+            a1._longSum = Math.addExact(a1._longSum, a2._longSum);
+            a1._doubleSum += a2._doubleSum;
+            a1._best = better(a1._best, a2._best);
+            return a1;
+        }
+
+        FusionValue result(Acc acc) {
+            if (_aggregate == Aggregate.COUNT) {
+                return FusionValue.from(acc._count);
+            }
+            if (acc._count == 0) {
+                return FusionValue.NULL;
+            }
+            return switch (_aggregate) {
+                case SUM -> FusionValue.from(_longs != null ? (Object) acc._longSum : (Object) acc._doubleSum);
+                case AVG -> FusionValue.from(_longs != null ? (double) acc._longSum / acc._count
+                                                            : acc._doubleSum / acc._count);
+                case MIN, MAX -> _column.getfv(acc._best);
+                case COUNT -> throw new AssertionError();
+            };
+        }
+    }
+}
@@ -50,11 +50,8 @@ public final class FusionRecordObject<T extends Record> extends FusionObjectBase
     public T extract() {
         if (state().isReadonly()) {
             if (_recRef.get() == null) {
-                synchronized (this) {
-                    if (_recRef.get() == null) {
-                        _recRef.set(type()._extractRecord(this));
-                    }
-                }
+                // Racing extractions build equal records; the first one published wins.
+                _recRef.compareAndSet(null, type()._extractRecord(this));
             }
             return _recRef.get();
         } else {
@@ -69,7 +66,8 @@ public final class FusionRecordObject<T extends Record> extends FusionObjectBase
 
     @Override
     protected void prepForIwrStateChange(IwrState nextState) {
-        assert Thread.holdsLock(this);
+        assert lock().isHeldByCurrentThread();
+        requireNotRecycled();
         // We could eagerly extract the record and set it in _recRef, but we
         // do it on demand in extract()
     }
@@ -14,6 +14,7 @@ import java.lang.reflect.RecordComponent;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static zer0g.fusion.data.NoCaseString.nocase;
 
@@ -24,6 +25,10 @@ public abstract class FusionRecordObjectType<T extends Record> extends FusionObj
     static final Constructor<FusionRecordObjectType> CTOR;
     static final Method CLASS_FOR_NAME_METHOD;
     static final Method LIST_OF_METHOD;
+    /**
+     * Serializes on-demand type creation, which generates and loads classes.
+     */
+    private static final ReentrantLock _onDemandLock = new ReentrantLock();
 
     static {
         try {
@@ -87,11 +92,21 @@ public abstract class FusionRecordObjectType<T extends Record> extends FusionObj
     public static <T extends Record> FusionRecordObjectType<T> of(Class<T> recordClass) {
         var type = Fusion.findFobType(recordClass);
         if (null == type) {
-            synchronized (FusionRecordObjectType.class) {
+            _onDemandLock.lock();
+            try {
                 type = Fusion.findFobType(recordClass);
                 if (null == type) {
+                    var event = new FusionEvents.OnDemandTypeCreation();
+                    event.begin();
                     type = new OnDemand<>(recordClass);
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.recordClass = recordClass;
+                        event.commit();
+                    }
                 }
+            } finally {
+                _onDemandLock.unlock();
             }
         }
         return (FusionRecordObjectType<T>) type;
@@ -0,0 +1,158 @@
+package zer0g.fusion.data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The mapping of the fields of a writer's schema onto those of a reader's fob-type, for reading objects written by an
+ * older (or newer) version of the type: see {@link FusionObjectTypeBase#read(java.io.Reader, FusionObjectSchema)}.
+ * Fields removed from the reader's schema are skipped at the token level, and fields added to it are filled from their
+ * {@link FusionFieldSchema#defaultValue()}.
+ * <p/>
+ * A field in both schemas is read with the reader's domain; its type may only stay the same, or widen from INTEGER to
+ * DECIMAL, from ENUM to STRING, or from anything to ANY.  Nested fobs are read with their reader's type, without
+ * resolution.
+ * <p/>
+ * Resolutions are computed once per (writer-schema, reader-type) pair, and cached; but the cache key is compared by
+ * value, so a reader of many objects should hold on to its resolution and pass it to
+ * {@link JsonReader#readResolved(FusionSchemaResolution)}.  The fields of a writer-schema are expected in its order,
+ * which lets most keys be resolved without a map lookup.
+ */
+public final class FusionSchemaResolution
+{
+    private record Key(FusionObjectSchema writer, FusionObjectType<?> reader)
+    {
+    }
+
+    private static final Map<Key, FusionSchemaResolution> _cache = new ConcurrentHashMap<>();
+
+    private final FusionObjectSchema _writer;
+    private final FusionObjectType<?> _reader;
+    private final NoCaseString[] _writerNames;
+    /**
+     * Reader field index by writer field index; -1 if the field was removed.
+     */
+    private final int[] _targets;
+    private final Map<NoCaseString, Integer> _writerIndex;
+    private final List<NoCaseString> _added;
+    private final List<NoCaseString> _removed;
+
+    private FusionSchemaResolution(FusionObjectSchema writer, FusionObjectType<?> reader) {
+        _writer = writer;
+        _reader = reader;
+        var readerSchema = reader.schema();
+        var writerFields = writer != null ? writer.fields() : List.<FusionFieldSchema>of();
+        _writerNames = new NoCaseString[writerFields.size()];
+        _targets = new int[writerFields.size()];
+        _writerIndex = new HashMap<>();
+        _removed = new ArrayList<>();
+        for (FusionFieldSchema field : writerFields) {
+            int w = field._i();
+            _writerNames[w] = field.name();
+            _writerIndex.put(field.name(), w);
+            var target = readerSchema.findField(field.name());
+            if (target == null) {
+                _targets[w] = -1;
+                _removed.add(field.name());
+            } else {
+                requireCompatible(field, target);
+                _targets[w] = target._i();
+            }
+        }
+        _added = new ArrayList<>();
+        if (writer != null) {
+            for (FusionFieldSchema field : readerSchema.fields()) {
+                if (writer.findField(field.name()) == null) {
+                    if (field.defaultValue().isNull() && !field.isNullable()) {
+                        throw new IllegalArgumentException(
+                              reader.name() + ": Added field " + field.name() + " is not nullable and has no default");
+                    }
+                    _added.add(field.name());
+                }
+            }
+        }
+    }
+
+    private static void requireCompatible(FusionFieldSchema writer, FusionFieldSchema reader) {
+        var from = writer.domain().type();
+        var to = reader.domain().type();
+        boolean compatible = switch (to) {
+            case ANY -> true;
+            case DECIMAL -> from == FusionValueType.DECIMAL || from == FusionValueType.INTEGER;
+            case STRING -> from == FusionValueType.STRING || from == FusionValueType.ENUM;
+            default -> from == to;
+        };
+        if (!compatible) {
+            throw new IllegalArgumentException("Cannot read " + from + " field " + writer.name() + " as " + to);
+        }
+    }
+
+    /**
+     * @param writer
+     *       the schema the objects were written with; null if unknown, in which case the reader's fields are matched by
+     *       name as they are read (see {@link #lenient(FusionObjectType)})
+     * @throws IllegalArgumentException
+     *       if a field changed to an incompatible type, or an added field is not nullable and has no default value
+     */
+    public static FusionSchemaResolution of(FusionObjectSchema writer, FusionObjectType<?> reader) {
+        return _cache.computeIfAbsent(new Key(writer, reader), key -> new FusionSchemaResolution(writer, reader));
+    }
+
+    /**
+     * @return the resolution for objects written with an unknown schema: fields not in the reader's schema are skipped,
+     * and fields missing from an object keep their default values.
+     */
+    public static FusionSchemaResolution lenient(FusionObjectType<?> reader) {
+        return of(null, reader);
+    }
+
+    public FusionObjectSchema writer() {
+        return _writer;
+    }
+
+    public FusionObjectType<?> reader() {
+        return _reader;
+    }
+
+    /**
+     * @return names of the reader's fields that are not in the writer's schema (empty if lenient)
+     */
+    public List<NoCaseString> added() {
+        return List.copyOf(_added);
+    }
+
+    /**
+     * @return names of the writer's fields that are not in the reader's schema (empty if lenient)
+     */
+    public List<NoCaseString> removed() {
+        return List.copyOf(_removed);
+    }
+
+    /**
+     * @param key
+     *       a field name read from the wire
+     * @param pos
+     *       the position of the key in its object, i.e. its expected writer field index
+     * @return the index of the reader's field for the key; -1 if its value is to be skipped
+     */
+    int readerIndex(NoCaseString key, int pos) {
+        if (pos < _writerNames.length && _writerNames[pos].equals(key)) {
+            return _targets[pos];
+        }
+        var w = _writerIndex.get(key);
+        if (w != null) {
+            return _targets[w];
+        }
+        var field = _reader.schema().findField(key);
+        return field != null ? field._i() : -1;
+    }
+
+    @Override
+    public String toString() {
+        return (_writer != null ? _writer.id() : "?") + "->" + _reader.name() + " added=" + _added + " removed=" +
+               _removed;
+    }
+}
@@ -0,0 +1,516 @@
+package zer0g.fusion.data;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An append-only, columnar table of the fobs of one fob-type: instead of one fob (and one {@link FusionValue} per
+ * field) per row, each schema field is stored in one column:
+ * <ul>
+ *     <li>BOOL, (non-big) INTEGER, float/double DECIMAL, and temporal fields in primitive arrays;</li>
+ *     <li>STRING and ENUM fields dictionary-encoded, so each distinct value is held once;</li>
+ *     <li>all other fields (big numbers, LIST, MAP, OBJECT, BLOB, ANY) as plain fusion-values.</li>
+ * </ul>
+ * Nulls are tracked in a per-column bitmap.
+ * <p/>
+ * {@link #get(int)} materializes a readonly fob of the row on demand; {@link #getfv(int, int)} reads one cell without
+ * materializing the row.  Rows are appended from readonly fobs ({@link #add(FusionObject)}) or in bulk from a stream
+ * of JSON objects ({@link #appendJson(Reader)}), and can be exported back with {@link #writeJson(Writer)}.
+ * <p/>
+ * Not thread-safe: appends must not run concurrently with each other, or with reads.
+ */
+public final class FusionTable<T extends FusionObject> extends AbstractList<T> implements RandomAccess
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final FusionObjectTypeBase<T> _type;
+    private final Column[] _columns;
+    private int _size;
+    private int _capacity;
+
+    public FusionTable(FusionObjectType<T> type) {
+        this(type, INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity
+     *       number of rows to allocate the columns for
+     */
+    public FusionTable(FusionObjectType<T> type, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Negative capacity: " + initialCapacity);
+        }
+        _type = (FusionObjectTypeBase<T>) type;
+        var fields = type.schema().fields();
+        _columns = new Column[fields.size()];
+        for (FusionFieldSchema field : fields) {
+            _columns[field._i()] = Column.of(field);
+        }
+        grow(initialCapacity);
+    }
+
+    public FusionObjectType<T> type() {
+        return _type;
+    }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    private void grow(int capacity) {
+        for (Column column : _columns) {
+            column.grow(capacity);
+        }
+        _capacity = capacity;
+    }
+
+    /**
+     * Appends the fob's field values as a new row.
+     *
+     * @return true
+     * @throws IllegalStateException
+     *       if the fob is not readonly (so its values are not known to be valid)
+     */
+    @Override
+    public boolean add(T fob) {
+        if (fob.type() != _type) {
+            throw new IllegalArgumentException("Not a fob of " + _type.name() + ": " + fob.type().name());
+        }
+        fob.state().requireReadonly();
+        append(fob);
+        return true;
+    }
+
+    private void append(FusionObject fob) {
+        if (_size == _capacity) {
+            grow(Math.max(INITIAL_CAPACITY, _capacity + (_capacity >> 1)));
+        }
+        for (Column column : _columns) {
+            column.set(_size, fob.getfv(column._field._i()));
+        }
+        _size++;
+    }
+
+    /**
+     * Appends one row per JSON object read from the wire, e.g. NDJSON, without allocating a fob per object.  Each
+     * object is validated as if it were made readonly.
+     *
+     * @param wire
+     *       zero or more (whitespace/newline separated) JSON objects of the fob-type
+     * @return number of rows appended
+     * @throws IOException
+     *       if there is an i/o error, or an object is malformed or invalid; the rows before it remain appended
+     */
+    public int appendJson(Reader wire) throws IOException {
+        var recycler = _type.recycler(wire);
+        var validator = _type.validator();
+        int count = 0;
+        for (T fob; (fob = recycler.next()) != null; count++) {
+            try {
+                validator.requireValid(fob);
+            } catch (FusionDataType.ValidationException e) {
+                throw new IOException("Invalid object #" + count + ": " + e.getMessage(), e);
+            }
+            append(fob);
+        }
+        return count;
+    }
+
+    /**
+     * Writes every row as a JSON object, one per line (NDJSON); readable by {@link #appendJson(Reader)}.
+     */
+    public void writeJson(Writer wire) throws IOException {
+        var writer = new JsonWriter(wire);
+        for (int row = 0; row < _size; row++) {
+            writer.visitObject(get(row));
+            wire.write('\n');
+        }
+    }
+
+    /**
+     * @return a new readonly fob with the row's field values
+     */
+    @Override
+    public T get(int row) {
+        Objects.checkIndex(row, _size);
+        var values = new FusionValue[_columns.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = _columns[i].getfv(row);
+        }
+        return _type.publishReadonly(values);
+    }
+
+    /**
+     * @param i
+     *       index of the field
+     * @return value of the field in the row
+     */
+    public FusionValue getfv(int row, int i) {
+        Objects.checkIndex(row, _size);
+        return _columns[i].getfv(row);
+    }
+
+    public FusionValue getfv(int row, String fieldName) {
+        return getfv(row, _type.schema().field(NoCaseString.nocase(fieldName))._i());
+    }
+
+    Column column(int i) {
+        return _columns[i];
+    }
+
+    Column column(String fieldName) {
+        return _columns[_type.schema().field(NoCaseString.nocase(fieldName))._i()];
+    }
+
+    /**
+     * @return a new query over the rows of this table
+     */
+    public FusionQuery<T> query() {
+        return new FusionQuery<>(this);
+    }
+
+    @Override
+    public void clear() {
+        for (Column column : _columns) {
+            column.clear();
+        }
+        _size = 0;
+    }
+
+    /**
+     * Storage of one field's values, by row.  The null bitmap is authoritative: the stored value of a null row is
+     * undefined.
+     */
+    abstract static sealed class Column permits LongColumn, DoubleColumn, BoolColumn, DictColumn, ValueColumn
+    {
+        final FusionFieldSchema _field;
+        private final BitSet _nulls = new BitSet();
+
+        Column(FusionFieldSchema field) {
+            _field = field;
+        }
+
+        static Column of(FusionFieldSchema field) {
+            var domain = field.domain();
+            return switch (domain.type()) {
+                case BOOL -> new BoolColumn(field);
+                case INTEGER -> "big".equals(domain.qualifier()) ? new ValueColumn(field) : new LongColumn(field);
+                case DECIMAL -> domain.qualifier() == null ? new ValueColumn(field) : new DoubleColumn(field);
+                case DATE, TIME, DATETIME, INSTANT, DURATION -> new LongColumn(field);
+                case STRING, ENUM -> new DictColumn(field);
+                case ANY, LIST, MAP, OBJECT, BLOB -> new ValueColumn(field);
+            };
+        }
+
+        final boolean isNull(int row) {
+            return _nulls.get(row);
+        }
+
+        final boolean hasNulls() {
+            return !_nulls.isEmpty();
+        }
+
+        /**
+         * Compares the (non-null) values of two rows.
+         */
+        int compareRows(int row1, int row2) {
+            return value(row1).compareTo(value(row2));
+        }
+
+        final FusionValue getfv(int row) {
+            return _nulls.get(row) ? FusionValue.NULL : value(row);
+        }
+
+        final void set(int row, FusionValue fv) {
+            if (fv.isNull()) {
+                _nulls.set(row);
+            } else {
+                _nulls.clear(row);
+                store(row, fv);
+            }
+        }
+
+        void clear() {
+            _nulls.clear();
+        }
+
+        /**
+         * @param fv
+         *       the (non-null) value of the field
+         */
+        abstract void store(int row, FusionValue fv);
+
+        abstract FusionValue value(int row);
+
+        abstract void grow(int capacity);
+    }
+
+    /**
+     * Integers as is; DATE as epoch-day; TIME as nano-of-day; DATETIME (as UTC), INSTANT and DURATION as seconds plus
+     * nanos.
+     */
+    static final class LongColumn extends Column
+    {
+        private final FusionValueType _type;
+        private final String _qualifier;
+        private long[] _values = new long[0];
+        /**
+         * Only for DATETIME, INSTANT and DURATION; otherwise null.
+         */
+        private int[] _nanos;
+
+        LongColumn(FusionFieldSchema field) {
+            super(field);
+            _type = field.domain().type();
+            _qualifier = field.domain().qualifier();
+            _nanos = switch (_type) {
+                case DATETIME, INSTANT, DURATION -> new int[0];
+                default -> null;
+            };
+        }
+
+        @Override
+        void grow(int capacity) {
+            _values = Arrays.copyOf(_values, capacity);
+            if (_nanos != null) {
+                _nanos = Arrays.copyOf(_nanos, capacity);
+            }
+        }
+
+        /**
+         * @return the stored long of the java-value; the seconds if {@link #hasNanos()}
+         */
+        static long encode(Object javaVal) {
+            return switch (javaVal) {
+                case LocalDate v -> v.toEpochDay();
+                case LocalTime v -> v.toNanoOfDay();
+                case LocalDateTime v -> v.toEpochSecond(ZoneOffset.UTC);
+                case Instant v -> v.getEpochSecond();
+                case Duration v -> v.getSeconds();
+                case Number v -> v.longValue();
+                default -> throw new AssertionError(javaVal.getClass());
+            };
+        }
+
+        static int nanosOf(Object javaVal) {
+            return switch (javaVal) {
+                case LocalDateTime v -> v.getNano();
+                case Instant v -> v.getNano();
+                case Duration v -> v.getNano();
+                default -> 0;
+            };
+        }
+
+        @Override
+        void store(int row, FusionValue fv) {
+            _values[row] = encode(fv.get());
+            if (_nanos != null) {
+                _nanos[row] = nanosOf(fv.get());
+            }
+        }
+
+        boolean hasNanos() {
+            return _nanos != null;
+        }
+
+        long[] values() {
+            return _values;
+        }
+
+        int[] nanos() {
+            return _nanos;
+        }
+
+        @Override
+        int compareRows(int row1, int row2) {
+            int c = Long.compare(_values[row1], _values[row2]);
+            return c != 0 || _nanos == null ? c : Integer.compare(_nanos[row1], _nanos[row2]);
+        }
+
+        @Override
+        FusionValue value(int row) {
+            long v = _values[row];
+            return new FusionValue(_type, switch (_type) {
+                case DATE -> LocalDate.ofEpochDay(v);
+                case TIME -> LocalTime.ofNanoOfDay(v);
+                case DATETIME -> LocalDateTime.ofEpochSecond(v, _nanos[row], ZoneOffset.UTC);
+                case INSTANT -> Instant.ofEpochSecond(v, _nanos[row]);
+                case DURATION -> Duration.ofSeconds(v, _nanos[row]);
+                default -> switch (_qualifier) {
+                    case null -> Integer.valueOf((int) v);
+                    case "byte" -> Byte.valueOf((byte) v);
+                    case "short" -> Short.valueOf((short) v);
+                    default -> Long.valueOf(v);
+                };
+            });
+        }
+    }
+
+    /**
+     * float and double DECIMAL.
+     */
+    static final class DoubleColumn extends Column
+    {
+        private final boolean _isFloat;
+        private double[] _values = new double[0];
+
+        DoubleColumn(FusionFieldSchema field) {
+            super(field);
+            _isFloat = "float".equals(field.domain().qualifier());
+        }
+
+        @Override
+        void grow(int capacity) {
+            _values = Arrays.copyOf(_values, capacity);
+        }
+
+        @Override
+        void store(int row, FusionValue fv) {
+            _values[row] = ((Number) fv.get()).doubleValue();
+        }
+
+        double[] values() {
+            return _values;
+        }
+
+        @Override
+        int compareRows(int row1, int row2) {
+            return Double.compare(_values[row1], _values[row2]);
+        }
+
+        @Override
+        FusionValue value(int row) {
+            double v = _values[row];
+            return new FusionValue(FusionValueType.DECIMAL, _isFloat ? Float.valueOf((float) v) : Double.valueOf(v));
+        }
+    }
+
+    static final class BoolColumn extends Column
+    {
+        private final BitSet _values = new BitSet();
+
+        BoolColumn(FusionFieldSchema field) {
+            super(field);
+        }
+
+        @Override
+        void grow(int capacity) {
+        }
+
+        @Override
+        void store(int row, FusionValue fv) {
+            _values.set(row, (Boolean) fv.get());
+        }
+
+        @Override
+        FusionValue value(int row) {
+            return _values.get(row) ? FusionValue.TRUE : FusionValue.FALSE;
+        }
+
+        boolean get(int row) {
+            return _values.get(row);
+        }
+
+        @Override
+        void clear() {
+            super.clear();
+            _values.clear();
+        }
+    }
+
+    /**
+     * Each distinct value is held once, in the dictionary; each row holds the value's code (dictionary index).
+     */
+    static final class DictColumn extends Column
+    {
+        private final List<FusionValue> _dict = new ArrayList<>();
+        private final HashMap<FusionValue, Integer> _codes = new HashMap<>();
+        private int[] _rowCodes = new int[0];
+
+        DictColumn(FusionFieldSchema field) {
+            super(field);
+        }
+
+        @Override
+        void grow(int capacity) {
+            _rowCodes = Arrays.copyOf(_rowCodes, capacity);
+        }
+
+        @Override
+        void store(int row, FusionValue fv) {
+            var code = _codes.get(fv);
+            if (code == null) {
+                code = _dict.size();
+                _dict.add(fv);
+                _codes.put(fv, code);
+            }
+            _rowCodes[row] = code;
+        }
+
+        int[] codes() {
+            return _rowCodes;
+        }
+
+        List<FusionValue> dictionary() {
+            return _dict;
+        }
+
+        @Override
+        FusionValue value(int row) {
+            return _dict.get(_rowCodes[row]);
+        }
+
+        @Override
+        void clear() {
+            super.clear();
+            _dict.clear();
+            _codes.clear();
+        }
+    }
+
+    static final class ValueColumn extends Column
+    {
+        private FusionValue[] _values = new FusionValue[0];
+
+        ValueColumn(FusionFieldSchema field) {
+            super(field);
+        }
+
+        @Override
+        void grow(int capacity) {
+            _values = Arrays.copyOf(_values, capacity);
+        }
+
+        @Override
+        void store(int row, FusionValue fv) {
+            _values[row] = fv;
+        }
+
+        @Override
+        FusionValue value(int row) {
+            return _values[row];
+        }
+
+        @Override
+        void clear() {
+            super.clear();
+            Arrays.fill(_values, null);
+        }
+    }
+}
@@ -92,9 +92,20 @@ public record FusionValueDomain(FusionValueType type, @FoField(isNullable = true
         this(FusionValueType.OBJECT, fotype.name());
     }
 
+    /**
+     * @param collect
+     *       if not null, the error (if any) is added to it instead of being thrown
+     */
     public void validateRange(FusionValue fv, List<String> collect) throws FusionDataType.ValidationException {
         if (_compiledRange != null) {
-            type.validateRange(_compiledRange, fv.get());
+            try {
+                type.validateRange(_compiledRange, fv.get());
+            } catch (FusionDataType.ValidationException e) {
+                if (collect == null) {
+                    throw e;
+                }
+                collect.addAll(e.getErrors());
+            }
         }
     }
 }
@@ -18,11 +18,13 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.regex.PatternSyntaxException;
 
 import static zer0g.fusion.data.NoCaseString.nocase;
 
@@ -126,6 +128,7 @@ public enum FusionValueType implements FusionDataType<FusionValue>
 
             // First, see if conversion is a "widening cast" (e.g. short to long)
             if (desiredClass == BigInteger.class) {
+                reportBigConversion(javaVal, desiredClass);
                 return (V) BigInteger.valueOf(v.longValue());
             } else if (desiredClass == Long.class) {
                 if (v instanceof Integer || v instanceof Short || v instanceof Byte) {
@@ -144,7 +147,13 @@ public enum FusionValueType implements FusionDataType<FusionValue>
             }
 
             // If we are here, the conversion must be a "tightening cast" (e.g. long to int)
-            BigInteger bigv = v instanceof BigInteger ? (BigInteger) v : BigInteger.valueOf(v.longValue());
+            BigInteger bigv;
+            if (v instanceof BigInteger) {
+                bigv = (BigInteger) v;
+            } else {
+                reportBigConversion(javaVal, desiredClass);
+                bigv = BigInteger.valueOf(v.longValue());
+            }
             if (desiredClass == Long.class) {
                 return (V) Long.valueOf(bigv.longValueExact());
             }
@@ -208,6 +217,7 @@ public enum FusionValueType implements FusionDataType<FusionValue>
                 return (V) Float.valueOf(((Number) javaVal).floatValue());
             } else if (desiredClass == BigDecimal.class) {
                 // Widening conversion
+                reportBigConversion(javaVal, desiredClass);
                 if (javaVal instanceof BigInteger) {
                     return (V) new BigDecimal((BigInteger) javaVal);
                 } else if (javaVal instanceof Double || javaVal instanceof Float) {
@@ -237,14 +247,31 @@ public enum FusionValueType implements FusionDataType<FusionValue>
             return t;
         }
 
+        /**
+         * The range is {@code [minLength, maxLength]}, optionally followed by a (full-match) regex, e.g.
+         * {@code [1, 8, "[A-Z]+"]} or {@code [null, null, "[a-z]\\w*"]}, in which case it compiles to a
+         * {@link PatternRange}.
+         */
         @Override
         public MinMaxRange<?> compileRange(FusionValue range, String qualifier) {
-            return compileLengthRange(range);
+            var lengthRange = compileLengthRange(range);
+            var list = (List<?>) range.get();
+            if (list.size() > 2 && list.get(2) != null) {
+                if (!(list.get(2) instanceof String regex)) {
+                    throw new IllegalArgumentException("Invalid regex: " + list.get(2));
+                }
+                return new PatternRange(lengthRange.min(), lengthRange.max(), regex);
+            }
+            return lengthRange;
         }
 
         @Override
         protected void validateRange(Object compiledRange, Object value) {
-            validateLengthRange(compiledRange, ((String) value).length());
+            var s = value.toString();
+            validateLengthRange(compiledRange, s.length());
+            if (compiledRange instanceof PatternRange pr && !pr.matches(s)) {
+                throw new ValidationException("does not match " + pr.regex() + ": " + s);
+            }
         }
 
         /**
@@ -450,7 +477,7 @@ public enum FusionValueType implements FusionDataType<FusionValue>
                     }
                 }
             }
-            return new FusionList<>(list, domain);
+            return new FusionList<>(list, domain).ensureReadonly();
         }
 
         @Override
@@ -511,7 +538,7 @@ public enum FusionValueType implements FusionDataType<FusionValue>
                     }
                 }
             }
-            return new FusionMap(map, domain);
+            return new FusionMap(map, domain).ensureReadonly();
         }
 
         @Override
@@ -581,10 +608,15 @@ public enum FusionValueType implements FusionDataType<FusionValue>
     public static final QualifiedType QT_MAP_ANY = new QualifiedType(MAP, ANY.name());
     public static final QualifiedType QT_LIST_ANY = new QualifiedType(LIST, ANY.name());
 
-    private static final Map<String, Validator> _validatorMap = new HashMap<>();
-    private static final Map<Class, QualifiedType> _classToQtMap = new HashMap<>();
-    private static final Map<String, StringSubtype<?>> _stringSubtypeMap = new HashMap();
-    private static final Map<Class, QualifiedType> _baseclassToQtMap = new HashMap<>();
+    private static final Map<String, Validator> _validatorMap = new ConcurrentHashMap<>();
+    /*
+     * The registries are read lock-free (on every value conversion); registrations are rare, and serialized by a
+     * ReentrantLock rather than a monitor, so that virtual threads waiting on it do not pin their carrier.
+     */
+    private static final Map<Class, QualifiedType> _classToQtMap = new ConcurrentHashMap<>();
+    private static final Map<String, StringSubtype<?>> _stringSubtypeMap = new ConcurrentHashMap<>();
+    private static final Map<Class, QualifiedType> _baseclassToQtMap = new ConcurrentHashMap<>();
+    private static final ReentrantLock _registryLock = new ReentrantLock();
     //private static final Map<String, Class<?>> _stringSubtypeClassMap = new HashMap<>();
 
     /**
@@ -647,12 +679,86 @@ public enum FusionValueType implements FusionDataType<FusionValue>
             case 1 -> s.charAt(0);
             default -> throw new IllegalArgumentException("String size is more than 1!");
         }, Character.valueOf((char) 0));
+
+        registerValidator(new Validator<FusionValue>()
+        {
+            @Override
+            public void validate(FusionValue value, FusionValue testParam, List<String> errors) {
+                if (value.type() != STRING) {
+                    notApplicableOnType(value.type());
+                }
+                var regex = (String) testParam.get();
+                if (!value.isNull() && !StringMatcher.of(regex).matches(value.get().toString())) {
+                    Validator.failed(failedMsg("does not match " + regex), errors);
+                }
+            }
+
+            @Override
+            public String name() {
+                return "regex";
+            }
+        });
     }
 
     public record Range<T>(T min, T max) implements MinMaxRange<T>
     {
     }
 
+    /**
+     * A {@link #STRING} length-range with a regex the (whole) value must match; the regex is compiled once, and
+     * shared by all domains using the same regex.
+     */
+    public static final class PatternRange implements MinMaxRange<Integer>
+    {
+        private final Integer _min;
+        private final Integer _max;
+        private final StringMatcher _matcher;
+
+        public PatternRange(Integer min, Integer max, String regex) {
+            _min = min;
+            _max = max;
+            try {
+                _matcher = StringMatcher.of(regex);
+            } catch (PatternSyntaxException e) {
+                throw new IllegalArgumentException("Invalid regex: " + regex, e);
+            }
+        }
+
+        @Override
+        public Integer min() {
+            return _min;
+        }
+
+        @Override
+        public Integer max() {
+            return _max;
+        }
+
+        public String regex() {
+            return _matcher.regex();
+        }
+
+        public boolean matches(String value) {
+            return _matcher.matches(value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PatternRange that && Objects.equals(_min, that._min) && Objects.equals(_max, that._max)
+                   && regex().equals(that.regex());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(_min, _max, regex());
+        }
+
+        @Override
+        public String toString() {
+            return "PatternRange[min=" + _min + ", max=" + _max + ", regex=" + regex() + "]";
+        }
+    }
+
     public record QualifiedType(FusionValueType type, String qualifier)
     {
         public static QualifiedType fromString(String combinedString) {
@@ -678,7 +784,18 @@ public enum FusionValueType implements FusionDataType<FusionValue>
         }
     }
 
-    public static synchronized <T> StringSubtype<T> registerStringSubtype(
+    public static <T> StringSubtype<T> registerStringSubtype(
+          String name, Class<T> javaClass, Function<String, T> creator, T zero)
+    {
+        _registryLock.lock();
+        try {
+            return _registerStringSubtype(name, javaClass, creator, zero);
+        } finally {
+            _registryLock.unlock();
+        }
+    }
+
+    private static <T> StringSubtype<T> _registerStringSubtype(
           String name, Class<T> javaClass, Function<String, T> creator, T zero)
     {
         if (_stringSubtypeMap.containsKey(name)) {
@@ -721,12 +838,10 @@ public enum FusionValueType implements FusionDataType<FusionValue>
                                                    .findFirst().orElse(null);
     }
 
-    static final synchronized void registerQualifier(FusionValueType type, String typeQualifier, Class javaClass) {
-        Map<Class, QualifiedType> map;
+    static final void registerQualifier(FusionValueType type, String typeQualifier, Class javaClass) {
         var qt = new QualifiedType(type, typeQualifier);
-        var oldqt = _classToQtMap.put(javaClass, qt);
+        var oldqt = _classToQtMap.putIfAbsent(javaClass, qt);
         if (null != oldqt) {
-            _classToQtMap.put(javaClass, oldqt);
             throw new IllegalArgumentException(
                   "Attempt to map class " + javaClass.getName() + " to " + qt + " AND " + oldqt + "!");
         }
@@ -748,15 +863,13 @@ public enum FusionValueType implements FusionDataType<FusionValue>
         return new JsonReader(wire).read(this, domain);
     }
 
-    static synchronized void registerValidator(Validator validator) {
-        var v = _validatorMap.put(validator.name(), validator);
-        if (v != null) {
-            _validatorMap.put(v.name(), v);
+    static void registerValidator(Validator validator) {
+        if (_validatorMap.putIfAbsent(validator.name(), validator) != null) {
             throw new IllegalArgumentException("Validation-alg already registered: " + validator.name());
         }
     }
 
-    static synchronized QualifiedType typeForJavaValue(Object javaVal) {
+    static QualifiedType typeForJavaValue(Object javaVal) {
         if (javaVal instanceof FusionObject fo) {
             return new QualifiedType(OBJECT, fo.type().name());
         } else {
@@ -764,11 +877,11 @@ public enum FusionValueType implements FusionDataType<FusionValue>
         }
     }
 
-    static synchronized QualifiedType typeForJavaValueClass(Class javaValueClass) {
+    static QualifiedType typeForJavaValueClass(Class javaValueClass) {
         return typeForJavaValueClass(javaValueClass, false);
     }
 
-    static synchronized QualifiedType typeForJavaValueClass(Class javaValueClass, boolean generatorPhase) {
+    static QualifiedType typeForJavaValueClass(Class javaValueClass, boolean generatorPhase) {
         if (javaValueClass.isPrimitive()) {
             javaValueClass = primitiveBoxClass(javaValueClass);
         }
@@ -806,7 +919,7 @@ public enum FusionValueType implements FusionDataType<FusionValue>
         };
     }
 
-    static synchronized void registerQualifier(FusionValueType type, String typeQualifier) {
+    static void registerQualifier(FusionValueType type, String typeQualifier) {
         registerQualifier(type, typeQualifier, type.javaDataClass(typeQualifier));
     }
 
@@ -884,12 +997,12 @@ public enum FusionValueType implements FusionDataType<FusionValue>
     }
 
     protected static void validateRange(Object compiledRange, Object value, String errpfx) throws ValidationException {
-        Range<? extends Comparable> range = (Range<? extends Comparable>) compiledRange;
-        if (range.min != null && range.min().compareTo(value) > 0) {
-            throw new ValidationException(errpfx + " less than " + range.min + ": " + value);
+        var range = (MinMaxRange<? extends Comparable>) compiledRange;
+        if (range.min() != null && range.min().compareTo(value) > 0) {
+            throw new ValidationException(errpfx + " less than " + range.min() + ": " + value);
         }
-        if (range.max != null && range.max().compareTo(value) < 0) {
-            throw new ValidationException(errpfx + " greater than " + range.max + ": " + value);
+        if (range.max() != null && range.max().compareTo(value) < 0) {
+            throw new ValidationException(errpfx + " greater than " + range.max() + ": " + value);
         }
     }
 
@@ -928,7 +1041,7 @@ public enum FusionValueType implements FusionDataType<FusionValue>
         return validator(algName);
     }
 
-    public static synchronized Validator validator(String algName) {
+    public static Validator validator(String algName) {
         var v = _validatorMap.get(algName);
         if (null == v) {
             throw new IllegalArgumentException("Unknown validator: " + algName);
@@ -1003,6 +1116,13 @@ public enum FusionValueType implements FusionDataType<FusionValue>
         validateRange(compiledRange, value, "value");
     }
 
+    final void reportBigConversion(Object javaVal, Class<?> desiredClass) {
+        var metrics = Fusion._metrics;
+        if (metrics != null) {
+            metrics.bigConversion(this, javaVal.getClass(), desiredClass);
+        }
+    }
+
     /**
      * @param javaVal
      *       the java-value that needs to be immutable
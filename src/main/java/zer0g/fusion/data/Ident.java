@@ -1,7 +1,9 @@
 package zer0g.fusion.data;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -11,11 +13,17 @@ import java.util.regex.Pattern;
  *     <li>Comprised of one or more "parts", joined together with a dot (e.g. "part1.part2")</li>
  * </ul>
  * <p/>
+ * The string is validated and its dot offsets located once, on construction.  The parts returned by
+ * {@link #getPart(int)}, {@link #head(int)}, {@link #tail()} and {@link #split()} are views that share the backing
+ * string and offsets, and so are neither copied nor re-validated.  The case-folded hash is computed once and cached.
  */
 public class Ident implements Comparable<Ident>
 {
     public static final String PATTERN_STR = "(" + Simple.PATTERN_STR + ")(\\." + Simple.PATTERN_STR + ")*";
     protected static final Pattern PATTERN = Pattern.compile(PATTERN_STR);
+    private static final StringMatcher MATCHER = StringMatcher.of(PATTERN_STR);
+    private static final int[] NO_DOTS = new int[0];
+    private static final Map<String, Ident> _internPool = new ConcurrentHashMap<>();
 
     static {
         FusionValueType.registerStringSubtype("dotident", Ident.class, s -> new Ident(s), null);
@@ -30,13 +38,25 @@ public class Ident implements Comparable<Ident>
         //public static final String PATTERN_STR = "[_a-zA-Z][_a-zA-Z0-9]*";
         public static final String PATTERN_STR = "[_\\p{L}][_\\p{L}\\d]*";
         protected static final Pattern PATTERN = Pattern.compile(PATTERN_STR);
+        private static final StringMatcher MATCHER = StringMatcher.of(PATTERN_STR);
 
         public static boolean isValid(String val) {
-            return PATTERN.matcher(val).matches();
+            return MATCHER.matches(val);
         }
 
         public Simple(String val) {
-            super(val);
+            super(validSimple(val), NO_DOTS, 0, 1);
+        }
+
+        private Simple(String src, int[] dots, int part) {
+            super(src, dots, part, 1);
+        }
+
+        private static String validSimple(String val) {
+            if (!isValid(val)) {
+                throw new IllegalArgumentException("Not a valid simple ident: " + val);
+            }
+            return val;
         }
 
         @Override
@@ -68,17 +88,29 @@ public class Ident implements Comparable<Ident>
             }
         }
 
-        @Override
-        public int count() {
-            return 1;
-        }
-
         @Override
         public List<Simple> split() {
             return List.of(this);
         }
     }
-    private final String _value;
+
+    /**
+     * The backing string, shared by all views of the same ident.
+     */
+    private final String _src;
+    /**
+     * Offsets of ALL the dots in {@link #_src}; shared by all views.
+     */
+    private final int[] _dots;
+    /**
+     * Index (in {@link #_src}) of the first part of this ident.
+     */
+    private final int _firstPart;
+    private final int _count;
+    private final int _from;
+    private final int _to;
+    private int _hash;
+    private String _value;
 
     public Ident(Ident... parts) {
         this(List.of(parts));
@@ -89,11 +121,46 @@ public class Ident implements Comparable<Ident>
     }
 
     public Ident(String val) {
-        if (isValid(val)) {
-            _value = val;
-        } else {
+        this(validDotted(val), dotsOf(val));
+    }
+
+    private Ident(String src, int[] dots) {
+        this(src, dots, 0, dots.length + 1);
+    }
+
+    private Ident(String src, int[] dots, int firstPart, int count) {
+        _src = src;
+        _dots = dots;
+        _firstPart = firstPart;
+        _count = count;
+        _from = firstPart == 0 ? 0 : dots[firstPart - 1] + 1;
+        _to = firstPart + count > dots.length ? src.length() : dots[firstPart + count - 1];
+        if (_from == 0 && _to == src.length()) {
+            _value = src;
+        }
+    }
+
+    private static String validDotted(String val) {
+        if (!isValid(val)) {
             throw new IllegalArgumentException("Not a valid ident: " + val);
         }
+        return val;
+    }
+
+    private static int[] dotsOf(String val) {
+        int n = 0;
+        for (int i = val.indexOf('.'); i >= 0; i = val.indexOf('.', i + 1)) {
+            n++;
+        }
+        if (n == 0) {
+            return NO_DOTS;
+        }
+        var dots = new int[n];
+        n = 0;
+        for (int i = val.indexOf('.'); i >= 0; i = val.indexOf('.', i + 1)) {
+            dots[n++] = i;
+        }
+        return dots;
     }
 
     private static String combine(Object[] parts) {
@@ -112,7 +179,7 @@ public class Ident implements Comparable<Ident>
     }
 
     public static boolean isValid(String val) {
-        return PATTERN.matcher(val).matches();
+        return MATCHER.matches(val);
     }
 
     public Ident(String... parts) {
@@ -136,9 +203,63 @@ public class Ident implements Comparable<Ident>
         }
     }
 
+    /**
+     * Returns the canonical (pooled) ident for the string value, creating and pooling it on first use.  Meant for a
+     * bounded vocabulary of hierarchical names, e.g. routing keys, which are then validated and parsed only once.
+     * <p/>
+     * The pool is keyed by the exact string, so idents differing only in case are pooled separately (but are still
+     * equal).  Pooled idents are never evicted.
+     *
+     * @return null if the value is null or empty
+     */
+    public static Ident intern(String val) {
+        if (val == null || val.isEmpty()) {
+            return null;
+        }
+        var ident = _internPool.get(val);
+        if (ident == null) {
+            ident = _internPool.computeIfAbsent(val, Ident::new);
+        }
+        return ident;
+    }
+
+    /**
+     * @return the canonical (pooled) ident equal to, and with the same string value as, this one
+     * @see #intern(String)
+     */
+    public Ident intern() {
+        var value = toString();
+        var ident = _internPool.get(value);
+        if (ident == null) {
+            // Never pool a part/head view: the pool is never evicted, and the view would pin its whole backing string.
+            var canonical = _from == 0 && _to == _src.length() ? this
+                                                                : this instanceof Simple
+                                                                  ? new Simple(value, NO_DOTS, 0)
+                                                                  : new Ident(value, dotsOf(value));
+            ident = _internPool.putIfAbsent(value, canonical);
+            if (ident == null) {
+                ident = canonical;
+            }
+        }
+        return ident;
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private int length() {
+        return _to - _from;
+    }
+
     @Override
     public int hashCode() {
-        return _value.toLowerCase().hashCode();
+        int h = _hash;
+        if (h == 0) {
+            h = NoCaseString.foldedHash(_src, _from, _to);
+            _hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -146,11 +267,9 @@ public class Ident implements Comparable<Ident>
         if (this == obj) {
             return true;
         }
-        if (obj == null) {
-            return false;
-        }
-        if (obj instanceof Ident) {
-            return compareTo((Ident) obj) == 0;
+        if (obj instanceof Ident o) {
+            return length() == o.length() && hashCode() == o.hashCode()
+                   && _src.regionMatches(true, _from, o._src, o._from, length());
         } else {
             return false;
         }
@@ -158,22 +277,39 @@ public class Ident implements Comparable<Ident>
 
     @Override
     public String toString() {
-        return _value;
+        var value = _value;
+        if (value == null) {
+            value = _src.substring(_from, _to);
+            _value = value;
+        }
+        return value;
     }
 
     @Override
     public int compareTo(Ident o) {
-        return _value.compareToIgnoreCase(o._value);
+        int n = Math.min(length(), o.length());
+        for (int i = 0; i < n; i++) {
+            char c1 = _src.charAt(_from + i);
+            char c2 = o._src.charAt(o._from + i);
+            if (c1 != c2) {
+                c1 = fold(c1);
+                c2 = fold(c2);
+                if (c1 != c2) {
+                    return c1 - c2;
+                }
+            }
+        }
+        return length() - o.length();
     }
 
     public boolean isPrefixOf(Ident o) {
-        if (o == null || o._value.length() < _value.length()) {
+        if (o == null || o.length() < length()) {
             return false;
         }
-        if (o._value.length() > _value.length() && o._value.charAt(_value.length()) != '.') {
+        if (o.length() > length() && o._src.charAt(o._from + length()) != '.') {
             return false;
         }
-        return o._value.substring(0, _value.length()).compareToIgnoreCase(_value) == 0;
+        return _src.regionMatches(true, _from, o._src, o._from, length());
     }
 
     public Simple head() {
@@ -181,53 +317,60 @@ public class Ident implements Comparable<Ident>
     }
 
     public Simple getPart(int index) {
-        return split().get(index);
+        if (index < 0 || index >= _count) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return new Simple(_src, _dots, _firstPart + index);
     }
 
     public Ident tail() {
-        var t = split();
-        if (t.size() > 1) {
-            var t2 = t.subList(1, t.size());
-            return new Ident(t2);
+        if (_count > 1) {
+            return new Ident(_src, _dots, _firstPart + 1, _count - 1);
         } else {
             return null;
         }
     }
 
     public List<Simple> split() {
-        return split(_value);
+        return new AbstractList<>()
+        {
+            @Override
+            public Simple get(int index) {
+                return getPart(index);
+            }
+
+            @Override
+            public int size() {
+                return _count;
+            }
+        };
     }
 
     public static List<Simple> split(String combined) {
-        String[] parts = combined.split("\\.");
-        List<Simple> result = new ArrayList<>(parts.length);
-        for (String part : parts) {
-            result.add(new Simple(part));
-        }
-        return result;
+        return new Ident(combined).split();
     }
 
+    /**
+     * @return the ident made of the first count parts
+     */
     public Ident head(int count) {
         if (count == 1) {
             return head();
         } else if (count == 0) {
             return null;
-        } else if (count < 0) {
-            throw new IndexOutOfBoundsException(count);
-        }
-        var parts = split();
-        if (parts.size() >= count) {
-            return new Ident(parts.subList(0, count - 1));
-        } else {
+        } else if (count < 0 || count > _count) {
             throw new IndexOutOfBoundsException(count);
+        } else if (count == _count) {
+            return this;
         }
+        return new Ident(_src, _dots, _firstPart, count);
     }
 
     public int count() {
-        return split().size();
+        return _count;
     }
 
     public final Ident dot(String tail) {
         return new Ident(this, valueOf(tail));
     }
-}
\ No newline at end of file
+}
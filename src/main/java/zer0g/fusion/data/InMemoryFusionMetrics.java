@@ -0,0 +1,198 @@
+package zer0g.fusion.data;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link FusionMetrics} that aggregates, in memory, per-fob-type counters and log2-bucketed latency histograms.  Take a
+ * consistent-enough {@link #snapshot()} at any time, e.g. to publish to a monitoring system.
+ */
+public class InMemoryFusionMetrics implements FusionMetrics
+{
+    private final Map<String, TypeStats> _types = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> _bigConversions = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> _resolutionMisses = new ConcurrentHashMap<>();
+
+    private static void increment(Map<String, LongAdder> counters, String key) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        var result = new TreeMap<String, Long>();
+        counters.forEach((k, v) -> result.put(k, v.sum()));
+        return Collections.unmodifiableMap(result);
+    }
+
+    private TypeStats stats(FusionObjectType type) {
+        return _types.computeIfAbsent(type.name(), k -> new TypeStats());
+    }
+
+    @Override
+    public void parsed(FusionObjectType type, long chars, long nanos) {
+        var stats = stats(type);
+        stats._parsedChars.add(chars);
+        stats._parse.record(nanos);
+    }
+
+    @Override
+    public void written(FusionObjectType type, long chars, long nanos) {
+        var stats = stats(type);
+        stats._writtenChars.add(chars);
+        stats._write.record(nanos);
+    }
+
+    @Override
+    public void validated(FusionObjectType type, long nanos, boolean failed) {
+        var stats = stats(type);
+        if (failed) {
+            stats._validationFailures.increment();
+        }
+        stats._validate.record(nanos);
+    }
+
+    @Override
+    public void bigConversion(FusionValueType type, Class<?> fromClass, Class<?> toClass) {
+        increment(_bigConversions, type + ":" + fromClass.getSimpleName() + "->" + toClass.getSimpleName());
+    }
+
+    @Override
+    public void typeResolutionMiss(String id, boolean resolved) {
+        increment(_resolutionMisses, resolved ? id : id + " (unresolved)");
+    }
+
+    /**
+     * @return the current values of all counters and histograms
+     */
+    public Snapshot snapshot() {
+        var types = new TreeMap<String, TypeSnapshot>();
+        _types.forEach((name, stats) -> types.put(name, stats.snapshot()));
+        return new Snapshot(Collections.unmodifiableMap(types), snapshot(_bigConversions),
+                            snapshot(_resolutionMisses));
+    }
+
+    /**
+     * Discards all collected metrics.
+     */
+    public void clear() {
+        _types.clear();
+        _bigConversions.clear();
+        _resolutionMisses.clear();
+    }
+
+    /**
+     * @param types
+     *       per fob-type name
+     * @param bigConversions
+     *       per "value-type:from-class->to-class"
+     * @param resolutionMisses
+     *       per fob-type id; suffixed with " (unresolved)" for failed lookups
+     */
+    public record Snapshot(Map<String, TypeSnapshot> types, Map<String, Long> bigConversions,
+                           Map<String, Long> resolutionMisses)
+    {
+    }
+
+    /**
+     * Per fob-type metrics.  The object counts are those of the corresponding histograms.
+     */
+    public record TypeSnapshot(Histogram parse, long parsedChars, Histogram write, long writtenChars,
+                               Histogram validate, long validationFailures)
+    {
+        public long parsed() {
+            return parse.count();
+        }
+
+        public long written() {
+            return write.count();
+        }
+
+        public long validated() {
+            return validate.count();
+        }
+    }
+
+    /**
+     * A latency histogram.
+     *
+     * @param buckets
+     *       buckets[i] counts the durations in [2^i, 2^(i+1)) nanos (bucket 0 also counts 0); trailing empty buckets
+     *       are omitted
+     */
+    public record Histogram(long count, long totalNanos, long maxNanos, long[] buckets)
+    {
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * @param fraction
+         *       0 to 1, e.g. 0.99
+         * @return upper bound (exclusive) of the bucket containing the fraction-quantile, capped at {@link #maxNanos()}
+         */
+        public long quantileNanos(double fraction) {
+            long rank = (long) Math.ceil(fraction * count), seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0) {
+                    return i >= 62 ? maxNanos : Math.min(maxNanos, 1L << (i + 1));
+                }
+            }
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Histogram[count=" + count + ", totalNanos=" + totalNanos + ", maxNanos=" + maxNanos + ", buckets=" +
+                   Arrays.toString(buckets) + "]";
+        }
+    }
+
+    private static final class TypeStats
+    {
+        private final LiveHistogram _parse = new LiveHistogram();
+        private final LongAdder _parsedChars = new LongAdder();
+        private final LiveHistogram _write = new LiveHistogram();
+        private final LongAdder _writtenChars = new LongAdder();
+        private final LiveHistogram _validate = new LiveHistogram();
+        private final LongAdder _validationFailures = new LongAdder();
+
+        private TypeSnapshot snapshot() {
+            return new TypeSnapshot(_parse.snapshot(), _parsedChars.sum(), _write.snapshot(), _writtenChars.sum(),
+                                    _validate.snapshot(), _validationFailures.sum());
+        }
+    }
+
+    private static final class LiveHistogram
+    {
+        private final AtomicLongArray _buckets = new AtomicLongArray(64);
+        private final LongAdder _total = new LongAdder();
+        private final LongAccumulator _max = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos) {
+            nanos = Math.max(0, nanos);
+            _buckets.incrementAndGet(63 - Long.numberOfLeadingZeros(nanos | 1));
+            _total.add(nanos);
+            _max.accumulate(nanos);
+        }
+
+        private Histogram snapshot() {
+            long[] buckets = new long[64];
+            long count = 0;
+            int used = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = _buckets.get(i);
+                if (buckets[i] != 0) {
+                    count += buckets[i];
+                    used = i + 1;
+                }
+            }
+            return new Histogram(count, _total.sum(), _max.get(), Arrays.copyOf(buckets, used));
+        }
+    }
+}
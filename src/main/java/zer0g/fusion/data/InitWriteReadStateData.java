@@ -1,5 +1,7 @@
 package zer0g.fusion.data;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 public interface InitWriteReadStateData
 {
     enum IwrState
@@ -60,51 +62,82 @@ public interface InitWriteReadStateData
         }
     }
 
+    /**
+     * State transitions, and the writes of subclasses, are serialized by a {@link ReentrantLock} rather than a
+     * monitor, so that virtual threads that block while holding it do not pin their carrier thread.  The state itself
+     * is volatile, so {@link #state()} never locks.
+     */
     abstract class Base implements InitWriteReadStateData, Cloneable
     {
-        private IwrState _state = IwrState.INIT;
+        private volatile IwrState _state = IwrState.INIT;
+        private ReentrantLock _lock = new ReentrantLock();
 
-        @Override
+        /**
+         * @return the lock that guards this object's state transitions; a clone gets its own
+         */
+        protected final ReentrantLock lock() {
+            return _lock;
+        }
 
-        public final synchronized Base doneInit() throws FusionDataType.ValidationException {
-            switch (_state) {
-                case INIT -> trans(IwrState.WRITE);
-                case READ, WRITE -> throw new IllegalStateException("Already done-init!");
+        @Override
+        public final Base doneInit() throws FusionDataType.ValidationException {
+            _lock.lock();
+            try {
+                switch (_state) {
+                    case INIT -> trans(IwrState.WRITE);
+                    case READ, WRITE -> throw new IllegalStateException("Already done-init!");
+                }
+                return this;
+            } finally {
+                _lock.unlock();
             }
-            return this;
         }
 
         @Override
-        public synchronized Base ensureReadonly() throws FusionDataType.ValidationException {
-            return (Base) InitWriteReadStateData.super.ensureReadonly();
+        public Base ensureReadonly() throws FusionDataType.ValidationException {
+            if (_state.isReadonly()) {
+                return this;
+            }
+            _lock.lock();
+            try {
+                return (Base) InitWriteReadStateData.super.ensureReadonly();
+            } finally {
+                _lock.unlock();
+            }
         }
 
         @Override
-        public final synchronized IwrState state() {
+        public final IwrState state() {
             return _state;
         }
 
         @Override
-        public final synchronized Base doneWrite() throws FusionDataType.ValidationException {
-            switch (_state) {
-                case INIT, WRITE -> trans(IwrState.READ);
-                case READ -> throw new IllegalStateException("Not writable!");
+        public final Base doneWrite() throws FusionDataType.ValidationException {
+            _lock.lock();
+            try {
+                switch (_state) {
+                    case INIT, WRITE -> trans(IwrState.READ);
+                    case READ -> throw new IllegalStateException("Not writable!");
+                }
+                return this;
+            } finally {
+                _lock.unlock();
             }
-            return this;
         }
 
         @Override
-        public synchronized Base clone(IwrState wantedState) {
+        public Base clone(IwrState wantedState) {
+            _lock.lock();
             try {
                 Base clone;
                 if (state() == wantedState) {
                     if (state().isReadonly()) {
                         clone = this;
                     } else {
-                        clone = (Base) clone();
+                        clone = copy();
                     }
                 } else {
-                    clone = (Base) clone();
+                    clone = copy();
                     switch (wantedState) {
                         case READ -> clone.doneWrite();
                         case WRITE -> {
@@ -122,7 +155,20 @@ public interface InitWriteReadStateData
                 return clone;
             } catch (CloneNotSupportedException e) {
                 throw new RuntimeException(e);
+            } finally {
+                _lock.unlock();
+            }
+        }
+
+        /**
+         * @return a {@link #clone()}, with its own lock if it was shallow-copied
+         */
+        private Base copy() throws CloneNotSupportedException {
+            var clone = (Base) clone();
+            if (clone._lock == _lock) {
+                clone._lock = new ReentrantLock();
             }
+            return clone;
         }
 
         private void trans(IwrState next) {
@@ -0,0 +1,143 @@
+package zer0g.fusion.data;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * {@link FusionMetrics} that emits a JFR event per reported operation.  Events are only committed if enabled in the
+ * running recording, so the cost of an installed-but-not-recording instance is one {@link Event#isEnabled()} check
+ * per operation.
+ * <p/>
+ * All events are in the "Fusion Data" category and named {@code zer0g.fusion.*}.
+ */
+public class JfrFusionMetrics implements FusionMetrics
+{
+    @Override
+    public void parsed(FusionObjectType type, long chars, long nanos) {
+        var event = new ObjectParsed();
+        if (event.isEnabled()) {
+            event.type = type.name();
+            event.chars = chars;
+            event.nanos = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void written(FusionObjectType type, long chars, long nanos) {
+        var event = new ObjectWritten();
+        if (event.isEnabled()) {
+            event.type = type.name();
+            event.chars = chars;
+            event.nanos = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void validated(FusionObjectType type, long nanos, boolean failed) {
+        var event = new ObjectValidated();
+        if (event.isEnabled()) {
+            event.type = type.name();
+            event.nanos = nanos;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void bigConversion(FusionValueType type, Class<?> fromClass, Class<?> toClass) {
+        var event = new BigConversion();
+        if (event.isEnabled()) {
+            event.valueType = type.name();
+            event.fromClass = fromClass;
+            event.toClass = toClass;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void typeResolutionMiss(String id, boolean resolved) {
+        var event = new TypeResolutionMiss();
+        if (event.isEnabled()) {
+            event.id = id;
+            event.resolved = resolved;
+            event.commit();
+        }
+    }
+
+    @Name("zer0g.fusion.ObjectParsed")
+    @Label("Fusion Object Parsed")
+    @Category("Fusion Data")
+    @Description("A fusion-object was read from JSON")
+    public static final class ObjectParsed extends Event
+    {
+        @Label("Fob Type")
+        String type;
+        @Label("Chars")
+        long chars;
+        @Label("Parse Time")
+        @Timespan
+        long nanos;
+    }
+
+    @Name("zer0g.fusion.ObjectWritten")
+    @Label("Fusion Object Written")
+    @Category("Fusion Data")
+    @Description("A fusion-object was written as JSON")
+    public static final class ObjectWritten extends Event
+    {
+        @Label("Fob Type")
+        String type;
+        @Label("Chars")
+        long chars;
+        @Label("Write Time")
+        @Timespan
+        long nanos;
+    }
+
+    @Name("zer0g.fusion.ObjectValidated")
+    @Label("Fusion Object Validated")
+    @Category("Fusion Data")
+    @Description("A fusion-object was validated for a state transition")
+    public static final class ObjectValidated extends Event
+    {
+        @Label("Fob Type")
+        String type;
+        @Label("Validation Time")
+        @Timespan
+        long nanos;
+        @Label("Failed")
+        boolean failed;
+    }
+
+    @Name("zer0g.fusion.BigConversion")
+    @Label("Fusion Big-Number Conversion")
+    @Category("Fusion Data")
+    @Description("A value conversion went through BigInteger or BigDecimal")
+    public static final class BigConversion extends Event
+    {
+        @Label("Value Type")
+        String valueType;
+        @Label("From Class")
+        Class<?> fromClass;
+        @Label("To Class")
+        Class<?> toClass;
+    }
+
+    @Name("zer0g.fusion.TypeResolutionMiss")
+    @Label("Fusion Type Resolution Miss")
+    @Category("Fusion Data")
+    @Description("A fob-type was not found registered")
+    public static final class TypeResolutionMiss extends Event
+    {
+        @Label("Fob Type Id")
+        String id;
+        @Label("Resolved By Class Load")
+        boolean resolved;
+    }
+}
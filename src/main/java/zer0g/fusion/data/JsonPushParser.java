@@ -0,0 +1,253 @@
+package zer0g.fusion.data;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A non-blocking, push-style JSON parser, for NIO selectors and event loops: the caller {@link #feed(ByteBuffer)}s
+ * UTF-8 chunks as they arrive, and each value is pushed to the sink as soon as its last byte is fed.  Partial state is
+ * kept between feeds, so one parser per connection costs no thread, only the bytes of its current (incomplete) value.
+ * <p/>
+ * The input is a stream of top-level values, which may be concatenated, whitespace- or newline-separated (NDJSON);
+ * see {@link #singleDocument()} to allow only one.  The parser frames each value at the byte level (tracking nesting,
+ * strings and escapes) and reads it, once complete, with a {@link JsonReader} over the buffered value, which therefore
+ * never blocks.  A top-level number or literal is only complete when followed by whitespace, another value, or
+ * {@link #finish()}.
+ * <p/>
+ * Not thread-safe: feed each parser from one thread at a time (e.g. its connection's event-loop).
+ */
+public final class JsonPushParser
+{
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final FusionValueType _type;
+    private final FusionValueDomain _domain;
+    private final Consumer<FusionValue> _sink;
+    private boolean _single;
+    private int _maxValueBytes = Integer.MAX_VALUE;
+    /**
+     * Bytes of the current value, fed so far.
+     */
+    private byte[] _bytes = new byte[INITIAL_CAPACITY];
+    private int _length;
+    private boolean _started;
+    private int _depth;
+    private boolean _inString;
+    private boolean _escape;
+    /**
+     * In a top-level number or literal.
+     */
+    private boolean _inScalar;
+    private long _count;
+
+    /**
+     * @param type
+     *       the type of each value; {@link FusionValueType#ANY} for any
+     * @param domain
+     *       the domain of each value; may be null
+     * @param sink
+     *       receives each value, on the thread that fed its last byte
+     */
+    public JsonPushParser(FusionValueType type, FusionValueDomain domain, Consumer<FusionValue> sink) {
+        _type = Objects.requireNonNull(type);
+        _domain = domain;
+        _sink = Objects.requireNonNull(sink);
+    }
+
+    /**
+     * @return a parser of a stream of objects of the fob-type; a JSON {@code null} is pushed as null
+     */
+    public static <T extends FusionObject> JsonPushParser of(FusionObjectType<T> type, Consumer<? super T> sink) {
+        Objects.requireNonNull(sink);
+        return new JsonPushParser(FusionValueType.OBJECT, new FusionValueDomain(type), fv -> sink.accept((T) fv.get()));
+    }
+
+    /**
+     * Allows only one value: anything but whitespace after it fails the feed.
+     */
+    public JsonPushParser singleDocument() {
+        _single = true;
+        return this;
+    }
+
+    /**
+     * Limits the size of a value, so that a slow or hostile peer cannot make the parser buffer without bound.
+     */
+    public JsonPushParser maxValueBytes(int maxValueBytes) {
+        if (maxValueBytes <= 0) {
+            throw new IllegalArgumentException("Max value bytes must be positive: " + maxValueBytes);
+        }
+        _maxValueBytes = maxValueBytes;
+        return this;
+    }
+
+    /**
+     * @return the number of values pushed to the sink so far
+     */
+    public long count() {
+        return _count;
+    }
+
+    /**
+     * @return true if there is no partially fed value
+     */
+    public boolean isIdle() {
+        return !_started;
+    }
+
+    /**
+     * Consumes all the remaining bytes of the chunk, pushing each value that they complete to the sink.
+     *
+     * @throws IOException
+     *       if a value cannot be read as the parser's type (or the sink throws): the framing is still in step, and the
+     *       chunk's position is left just after that value, so that feeding the rest of the chunk again carries on
+     *       with the next value.  Or if the input is malformed, or a value is too big: the current value and the rest
+     *       of the chunk are then dropped, and the parser starts afresh with the next feed; but the stream is likely
+     *       out of step, and is best closed.
+     */
+    public void feed(ByteBuffer chunk) throws IOException {
+        int end = chunk.limit();
+        // Set while a framed value is completed: where to resume if it is invalid.
+        int resume = -1;
+        try {
+            for (int i = chunk.position(); i < end; i++) {
+                byte b = chunk.get(i);
+                if (_inScalar) {
+                    if (!isScalarEnd(b)) {
+                        append(b);
+                        continue;
+                    }
+                    // The byte that ends a scalar is not part of it.
+                    resume = i;
+                    complete();
+                    resume = -1;
+                }
+                if (!_started) {
+                    start(b);
+                } else {
+                    append(b);
+                    if (_inString) {
+                        if (_escape) {
+                            _escape = false;
+                        } else if (b == '\\') {
+                            _escape = true;
+                        } else if (b == '"') {
+                            _inString = false;
+                            if (_depth == 0) {
+                                resume = i + 1;
+                                complete();
+                                resume = -1;
+                            }
+                        }
+                    } else {
+                        switch (b) {
+                            case '"' -> _inString = true;
+                            case '{', '[' -> _depth++;
+                            case '}', ']' -> {
+                                if (--_depth == 0) {
+                                    resume = i + 1;
+                                    complete();
+                                    resume = -1;
+                                }
+                            }
+                            default -> {
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            if (resume < 0) {
+                // A framing error: the stream is out of step.
+                reset();
+            }
+            throw e;
+        } finally {
+            chunk.position(resume < 0 ? end : resume);
+        }
+    }
+
+    /**
+     * Signals the end of the input, pushing a pending top-level number or literal.
+     *
+     * @throws EOFException
+     *       if the input ended in the middle of a value (which is dropped)
+     */
+    public void finish() throws IOException {
+        if (_inScalar) {
+            complete();
+        } else if (_started) {
+            reset();
+            throw new EOFException("Input ended inside value #" + (_count + 1));
+        }
+    }
+
+    private void start(byte b) throws IOException {
+        switch (b) {
+            case ' ', '\t', '\r', '\n' -> {
+                return;
+            }
+            case '}', ']', ',', ':' -> throw new IOException("Unexpected '" + (char) b + "' before value");
+            case '{', '[' -> _depth = 1;
+            case '"' -> _inString = true;
+            default -> _inScalar = true;
+        }
+        if (_single && _count > 0) {
+            throw new IOException("Unexpected data after the single document");
+        }
+        _started = true;
+        append(b);
+    }
+
+    private static boolean isScalarEnd(byte b) {
+        return switch (b) {
+            case ' ', '\t', '\r', '\n', '{', '[', '"', '}', ']', ',', ':' -> true;
+            default -> false;
+        };
+    }
+
+    private void append(byte b) throws IOException {
+        if (_length == _maxValueBytes) {
+            throw new IOException("Value #" + (_count + 1) + " is longer than " + _maxValueBytes + " bytes");
+        }
+        if (_length == _bytes.length) {
+            _bytes = Arrays.copyOf(_bytes, (int) Math.min(_bytes.length * 2L, Integer.MAX_VALUE - 8));
+        }
+        _bytes[_length++] = b;
+    }
+
+    /**
+     * Resets the framing state first, so that it is ready for the next value even if this one is invalid.
+     */
+    private void complete() throws IOException {
+        var json = new String(_bytes, 0, _length, StandardCharsets.UTF_8);
+        reset();
+        FusionValue value;
+        try {
+            value = _type.read(new StringReader(json), _domain);
+        } catch (IOException | RuntimeException e) {
+            throw new IOException("Invalid value #" + (_count + 1) + ": " + e.getMessage(), e);
+        }
+        _count++;
+        _sink.accept(value);
+    }
+
+    private void reset() {
+        _length = 0;
+        _started = false;
+        _depth = 0;
+        _inString = false;
+        _escape = false;
+        _inScalar = false;
+        if (_bytes.length > INITIAL_CAPACITY * 64) {
+            // Do not hold on to the buffer of an unusually big value.
+            _bytes = new byte[INITIAL_CAPACITY];
+        }
+    }
+}
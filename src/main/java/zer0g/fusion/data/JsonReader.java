@@ -5,11 +5,14 @@ import java.io.IOException;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -20,6 +23,11 @@ import static zer0g.fusion.data.FusionValueType.*;
 public class JsonReader extends FusionValueReader.Base
 {
     private final Reader _wire;
+    /**
+     * Number of chars consumed from the wire (for metrics).
+     */
+    private long _pos;
+    private long _markPos;
 
     public JsonReader(Reader wire) {
         if (!wire.markSupported()) {
@@ -113,12 +121,289 @@ public class JsonReader extends FusionValueReader.Base
     @Override
     protected FusionValue readObject(FusionValueDomain domain) throws IOException {
         FusionObjectType fotype = Fusion.fobType(domain != null ? domain.qualifier() : null);
+        var metrics = Fusion._metrics;
+        var event = new FusionEvents.SlowObjectRead();
+        event.begin();
+        long startPos = _pos, startNanos = metrics != null ? System.nanoTime() : 0;
         var fo = (FusionObjectBase) fotype.make();
         assert fo.type() == fotype;
-        readMap(fo.asMap(), (key) -> null == domain ? FusionValueDomain.ANY : fo.schema().field(key).domain());
+        int fields = readMap(fo.asMap(),
+                             (key) -> null == domain ? FusionValueDomain.ANY : fo.schema().field(key).domain());
+        objectRead(fotype, fields, startPos, startNanos, metrics, event);
         return OBJECT.from(fo, domain);
     }
 
+    /**
+     * Resets the supplied INIT-state fob to its field defaults (see {@link FusionObject#reset()}) and refills it with
+     * the next object read from the wire.  The fob is left in INIT state.
+     *
+     * @param fob
+     *       the fob to refill
+     * @return false, with the fob untouched, if the wire is at end-of-input
+     * @throws IllegalStateException
+     *       if the fob is not in INIT state
+     */
+    public boolean readInto(FusionObject fob) throws IOException {
+        fob.state().requireInit();
+        if (skipws() == -1) {
+            return false;
+        }
+        var metrics = Fusion._metrics;
+        var event = new FusionEvents.SlowObjectRead();
+        event.begin();
+        long startPos = _pos, startNanos = metrics != null ? System.nanoTime() : 0;
+        fob.reset();
+        var schema = fob.schema();
+        int fields = readMap(fob.asMap(), (key) -> schema.field(key).domain());
+        objectRead(fob.type(), fields, startPos, startNanos, metrics, event);
+        return true;
+    }
+
+    /**
+     * Reads the next object, building only the fields of the projection; the values of the other fields are skipped
+     * (see {@link #skipValue()}).  See {@link FusionProjection}.
+     *
+     * @return a readonly, partial fob; null if the wire is at end-of-input
+     */
+    public FusionObject readProjected(FusionProjection projection) throws IOException {
+        if (skipws() == -1) {
+            return null;
+        }
+        return readPartial(projection);
+    }
+
+    /**
+     * Reads the next object written with the resolution's writer-schema as a fob of its reader-type: the values of
+     * removed fields are skipped, and added fields keep their default values.  See {@link FusionSchemaResolution}.
+     *
+     * @return a readonly fob; null if the wire is at end-of-input
+     */
+    public FusionObject readResolved(FusionSchemaResolution resolution) throws IOException {
+        if (skipws() == -1) {
+            return null;
+        }
+        var metrics = Fusion._metrics;
+        var event = new FusionEvents.SlowObjectRead();
+        event.begin();
+        long startPos = _pos, startNanos = metrics != null ? System.nanoTime() : 0;
+        var type = (FusionObjectTypeBase<?>) resolution.reader();
+        var fields = type.schema().fields();
+        var values = new FusionValue[fields.size()];
+        for (FusionFieldSchema field : fields) {
+            values[field._i()] = field.defaultValue();
+        }
+        int count = 0;
+        expect('{');
+        if (skipws() == '}') {
+            read();
+        } else {
+            for (int pos = 0; ; pos++) {
+                skipws();
+                var key = new NoCaseString(jreadString());
+                skipws();
+                expect(':');
+                try {
+                    int i = resolution.readerIndex(key, pos);
+                    if (i < 0) {
+                        skipValue();
+                    } else {
+                        var domain = fields.get(i).domain();
+                        values[i] = read(domain.type(), domain);
+                        count++;
+                    }
+                } catch (Exception e) {
+                    throw new IOException("Error reading value for field '" + key + "' because: " + e.getMessage(), e);
+                }
+                skipws();
+                int next = read();
+                if (next == '}') {
+                    break;
+                }
+                if (next != ',') {
+                    throw new IOException("Expected , or } but got " + Character.toString(next));
+                }
+            }
+        }
+        for (FusionFieldSchema field : fields) {
+            if (values[field._i()].isNull() && !field.isNullable()) {
+                throw new IOException(type.name() + ": Field " + field.name() + " cannot be null!");
+            }
+        }
+        var fob = type.publishReadonly(values);
+        objectRead(type, count, startPos, startNanos, metrics, event);
+        return fob;
+    }
+
+    /**
+     * Reports (to metrics and events) only the fields actually built, not the skipped ones.
+     */
+    private FusionObject readPartial(FusionProjection projection) throws IOException {
+        var metrics = Fusion._metrics;
+        var event = new FusionEvents.SlowObjectRead();
+        event.begin();
+        long startPos = _pos, startNanos = metrics != null ? System.nanoTime() : 0;
+        int count = 0;
+        var type = (FusionObjectTypeBase<?>) projection.type();
+        var fields = type.schema().fields();
+        var values = new FusionValue[fields.size()];
+        for (FusionFieldSchema field : fields) {
+            values[field._i()] = projection.includes(field._i()) ? field.defaultValue() : FusionValue.NULL;
+        }
+        skipws();
+        expect('{');
+        if (skipws() == '}') {
+            read();
+        } else {
+            while (true) {
+                skipws();
+                var key = new NoCaseString(jreadString());
+                skipws();
+                expect(':');
+                try {
+                    var field = type.schema().field(key);
+                    int i = field._i();
+                    if (!projection.includes(i)) {
+                        skipValue();
+                    } else {
+                        var nested = projection.nested(i);
+                        values[i] = nested == null ? read(field.domain().type(), field.domain())
+                                                   : readNested(nested, field.domain());
+                        count++;
+                    }
+                } catch (Exception e) {
+                    throw new IOException("Error reading value for field '" + key + "' because: " + e.getMessage(), e);
+                }
+                skipws();
+                int next = read();
+                if (next == '}') {
+                    break;
+                }
+                if (next != ',') {
+                    throw new IOException("Expected , or } but got " + Character.toString(next));
+                }
+            }
+        }
+        for (FusionFieldSchema field : fields) {
+            if (values[field._i()].isNull() && projection.includes(field._i()) && !field.isNullable()) {
+                throw new IOException(type.name() + ": Field " + field.name() + " cannot be null!");
+            }
+        }
+        var fob = type.publishReadonly(values, projection);
+        objectRead(type, count, startPos, startNanos, metrics, event);
+        return fob;
+    }
+
+    /**
+     * Reads a nested fob (or list of fobs) with its projection.
+     */
+    private FusionValue readNested(FusionProjection projection, FusionValueDomain domain) throws IOException {
+        if (skipws() == 'n') {
+            expect("null");
+            return FusionValue.NULL;
+        }
+        if (domain.type() == OBJECT) {
+            return OBJECT.from(readPartial(projection), domain);
+        }
+        expect('[');
+        var list = new FusionList<>(domain);
+        if (skipws() == ']') {
+            read();
+        } else {
+            while (true) {
+                list.add(readNested(projection, list.valueDomain()));
+                skipws();
+                int next = read();
+                if (next == ']') {
+                    break;
+                }
+                if (next != ',') {
+                    throw new IOException("Expected , or ] but got " + Character.toString(next));
+                }
+                if (domain._compiledRange() != null && (int) domain._compiledRange().max() < list.size()) {
+                    throw new IOException("List longer than max: " + domain._compiledRange().max());
+                }
+            }
+        }
+        return LIST.from(list, domain);
+    }
+
+    /**
+     * Skips the next value at the token level: nothing is built, and its syntax is only loosely checked (brackets are
+     * counted, not matched, and literals and numbers are just runs of their characters).
+     */
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            int c = skipws();
+            switch (c) {
+                case '"' -> skipString();
+                case '{', '[' -> {
+                    read();
+                    depth++;
+                }
+                case '}', ']', ',', ':' -> {
+                    if (depth == 0) {
+                        throw new IOException("Expected a value but got " + (char) c);
+                    }
+                    read();
+                    if (c == '}' || c == ']') {
+                        depth--;
+                    }
+                }
+                case -1 -> throw new EOFException();
+                default -> skipLiteral();
+            }
+        } while (depth > 0);
+    }
+
+    private void skipString() throws IOException {
+        read();
+        while (true) {
+            switch (read()) {
+                case '"' -> {
+                    return;
+                }
+                case '\\' -> read();
+                case -1 -> throw new EOFException();
+                default -> {
+                }
+            }
+        }
+    }
+
+    private void skipLiteral() throws IOException {
+        int count = 0;
+        while (true) {
+            mark(1);
+            int c = read();
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'E') {
+                count++;
+            } else {
+                reset();
+                if (count == 0) {
+                    throw new IOException("Unexpected: " + (char) c);
+                }
+                expectAtTokenBreak();
+                return;
+            }
+        }
+    }
+
+    private void objectRead(FusionObjectType type, int fields, long startPos, long startNanos, FusionMetrics metrics,
+                            FusionEvents.SlowObjectRead event)
+    {
+        if (metrics != null) {
+            metrics.parsed(type, _pos - startPos, System.nanoTime() - startNanos);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = type.name();
+            event.chars = _pos - startPos;
+            event.fields = fields;
+            event.commit();
+        }
+    }
+
     @Override
     protected FusionValue readList(FusionValueDomain domain) throws IOException {
         if (domain == null) {
@@ -172,7 +457,68 @@ public class JsonReader extends FusionValueReader.Base
 
     @Override
     public FusionValue readBlob(FusionValueDomain domain) throws IOException {
-        return fromString(domain, Blob::new);
+        return BLOB.from(jreadBase64(), domain);
+    }
+
+    /**
+     * Decodes a Base64 json-string, {@link Blob#BASE64_CHUNK} chars at a time; no string of the whole encoding is ever
+     * made.  The decoded length is unknown until the closing quote, so the chunks are kept until then and copied once
+     * into an exact-size buffer, which the blob wraps: the peak is therefore about twice the decoded size.
+     */
+    protected Blob jreadBase64() throws IOException {
+        if (read() != '\"') {
+            throw new IOException("Unexpected string start!");
+        }
+        var chunk = new byte[Blob.BASE64_CHUNK];
+        int chunkBytes = Blob.BASE64_CHUNK / 4 * 3;
+        var decodedChunks = new ArrayList<byte[]>();
+        int length = 0;
+        int n = 0;
+        boolean end = false;
+        while (!end) {
+            int cp = read();
+            if (cp == -1) {
+                throw new EOFException();
+            }
+            end = cp == '"';
+            if (!end) {
+                if (cp >= 0x80 || cp == '\\') {
+                    throw new IOException("Invalid base64 char: " + (char) cp);
+                }
+                chunk[n++] = (byte) cp;
+            }
+            if (n == chunk.length || (end && n > 0)) {
+                if (length % chunkBytes != 0) {
+                    throw new IOException("Invalid base64: data after padding");
+                }
+                var decoded = new byte[chunkBytes];
+                int count = decodeBase64(n == chunk.length ? chunk : Arrays.copyOf(chunk, n), decoded);
+                if (length + count < length) {
+                    throw new IOException("Base64 blob is larger than 2GB");
+                }
+                decodedChunks.add(decoded);
+                length += count;
+                n = 0;
+            }
+        }
+        expectAtTokenBreak();
+        var content = new byte[length];
+        for (int i = 0, offset = 0; offset < length; i++) {
+            int count = Math.min(chunkBytes, length - offset);
+            System.arraycopy(decodedChunks.get(i), 0, content, offset, count);
+            // Let each chunk go as soon as it is copied.
+            decodedChunks.set(i, null);
+            offset += count;
+        }
+        return Blob.wrap(ByteBuffer.wrap(content));
+    }
+
+    private static int decodeBase64(byte[] chunk, byte[] decoded) throws IOException {
+        try {
+            return Blob.BYTES_DECODER.decode(chunk, decoded);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid base64: " + e.getMessage(), e);
+        }
     }
 
     private FusionValue fromString(FusionValueDomain domain, Function<String, Object> parser) throws IOException {
@@ -253,10 +599,15 @@ public class JsonReader extends FusionValueReader.Base
 
     protected void mark(int readAheadLimit) throws IOException {
         _wire.mark(readAheadLimit);
+        _markPos = _pos;
     }
 
     protected int read() throws IOException {
-        return _wire.read();
+        int c = _wire.read();
+        if (c != -1) {
+            _pos++;
+        }
+        return c;
     }
 
     /**
@@ -283,6 +634,7 @@ public class JsonReader extends FusionValueReader.Base
 
     protected void reset() throws IOException {
         _wire.reset();
+        _pos = _markPos;
     }
 
     protected int peek() throws IOException {
@@ -384,12 +736,20 @@ public class JsonReader extends FusionValueReader.Base
     }
 
     protected int read(char[] cbuf, int off, int len) throws IOException {
-        return _wire.read(cbuf, off, len);
+        int n = _wire.read(cbuf, off, len);
+        if (n > 0) {
+            _pos += n;
+        }
+        return n;
     }
 
-    private void readMap(Map<NoCaseString, FusionValue> fvmap, Function<NoCaseString, FusionValueDomain> domainGetter)
+    /**
+     * @return number of entries read
+     */
+    private int readMap(Map<NoCaseString, FusionValue> fvmap, Function<NoCaseString, FusionValueDomain> domainGetter)
           throws IOException
     {
+        int count = 0;
         skipws();
         expect('{');
         if (peek() == '}') {
@@ -403,6 +763,7 @@ public class JsonReader extends FusionValueReader.Base
                 try {
                     var domain = domainGetter.apply(key);
                     fvmap.put(key, read(domain.type(), domain));
+                    count++;
                 } catch (Exception e) {
                     throw new IOException("Error reading value for field '" + key + "' because: " + e.getMessage(), e);
                 }
@@ -417,5 +778,6 @@ public class JsonReader extends FusionValueReader.Base
                 }
             }
         }
+        return count;
     }
 }
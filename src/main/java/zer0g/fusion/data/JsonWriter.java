@@ -1,5 +1,6 @@
 package zer0g.fusion.data;
 
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.Writer;
 import java.time.Duration;
@@ -7,15 +8,26 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 
 public class JsonWriter extends FusionValueVisitor
 {
     private final Writer _writer;
+    /**
+     * Same as {@link #_writer} if metrics were installed at construction, otherwise null.
+     */
+    private final CountingWriter _counter;
 
     public JsonWriter(Writer writer) {
-        _writer = Objects.requireNonNull(writer);
+        Objects.requireNonNull(writer);
+        if (Fusion._metrics != null) {
+            _writer = _counter = new CountingWriter(writer);
+        } else {
+            _writer = writer;
+            _counter = null;
+        }
     }
 
     /**
@@ -139,14 +151,24 @@ public class JsonWriter extends FusionValueVisitor
     @Override
     void visitList(FusionList<?> value) throws IOException {
         _writer.write('[');
-        boolean first = true;
-        for (FusionValue fusionValue : value._inner) {
-            if (!first) {
-                _writer.write(',');
-            } else {
-                first = false;
+        var inner = value.inner();
+        if (inner instanceof FrozenValueList frozen) {
+            for (int i = 0; i < frozen.size(); i++) {
+                if (i > 0) {
+                    _writer.write(',');
+                }
+                frozen.acceptAt(i, this);
+            }
+        } else {
+            boolean first = true;
+            for (FusionValue fusionValue : inner) {
+                if (!first) {
+                    _writer.write(',');
+                } else {
+                    first = false;
+                }
+                fusionValue.accept(this);
             }
-            fusionValue.accept(this);
         }
         _writer.write(']');
     }
@@ -159,15 +181,15 @@ public class JsonWriter extends FusionValueVisitor
     private void visitMap(Map<NoCaseString, FusionValue> map) throws IOException {
         _writer.write('{');
         boolean first = true;
-        for (var key : map.keySet()) {
+        for (var entry : map.entrySet()) {
             if (!first) {
                 _writer.write(',');
             } else {
                 first = false;
             }
-            encodestr(_writer, key.toString());
+            encodestr(_writer, entry.getKey().toString());
             _writer.write(':');
-            map.get(key).accept(this);
+            entry.getValue().accept(this);
         }
         _writer.write('}');
     }
@@ -182,10 +204,29 @@ public class JsonWriter extends FusionValueVisitor
      */
     @Override
     void visitObject(FusionObject fob) throws IOException {
+        var metrics = Fusion._metrics;
+        if (metrics != null && _counter != null) {
+            long startCount = _counter._count, startNanos = System.nanoTime();
+            writeObject(fob);
+            metrics.written(fob.type(), _counter._count - startCount, System.nanoTime() - startNanos);
+        } else {
+            writeObject(fob);
+        }
+    }
+
+    private void writeObject(FusionObject fob) throws IOException {
         Map<NoCaseString, FusionValue> kvMap;
         if (fob.isKey()) {
             kvMap = Map.ofEntries(fob.asMap().entrySet().stream().filter(e -> fob.schema().field(e.getKey()).isKey())
                                      .toList().toArray(new Map.Entry[0]));
+        } else if (fob.projection() != null) {
+            // A partial fob: only its projected fields are present.
+            kvMap = new LinkedHashMap<>();
+            for (FusionFieldSchema field : fob.schema().fields()) {
+                if (fob.projection().includes(field._i())) {
+                    kvMap.put(field.name(), fob.getfv(field._i()));
+                }
+            }
         } else {
             kvMap = fob.asMap();
         }
@@ -197,6 +238,36 @@ public class JsonWriter extends FusionValueVisitor
      */
     @Override
     void visitBlob(Blob value) throws IOException {
-        encodestr(_writer, value.toString());
+        // The (url-safe) Base64 alphabet needs no escaping, so is streamed straight from the blob.
+        _writer.write('"');
+        value.writeBase64(_writer);
+        _writer.write('"');
+    }
+
+    private static final class CountingWriter extends FilterWriter
+    {
+        private long _count;
+
+        private CountingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            out.write(c);
+            _count++;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, len);
+            _count += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            _count += len;
+        }
     }
 }
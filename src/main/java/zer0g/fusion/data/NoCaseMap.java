@@ -0,0 +1,381 @@
+package zer0g.fusion.data;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An open-addressing hash map keyed by {@link NoCaseString}, purpose-built for {@link FusionMap}.
+ * <p/>
+ * Entries are kept in dense parallel arrays, along with each key's cached case-folded hash, and the hash table holds
+ * only (entry-index + 1) in an {@code int[]} probed linearly.  Lookups therefore cost one hash probe and, on a hash
+ * hit, one {@link String#equalsIgnoreCase(String)}, instead of O(log n) {@code compareToIgnoreCase} calls.
+ * <p/>
+ * Iteration is ALWAYS in canonical order (case-insensitive sort of the keys), as required for Fusion-canonical JSON.
+ * The sorted order is computed lazily and cached until the next mutation.  {@link #freeze()} compacts the arrays to
+ * their exact size in sorted order, after which no more mutations are allowed.
+ *
+ * @param <V>
+ */
+final class NoCaseMap<V> extends AbstractMap<NoCaseString, V>
+{
+    private static final int MIN_CAPACITY = 8;
+    private static final int[] NO_ORDER = new int[0];
+
+    private NoCaseString[] _keys;
+    private Object[] _vals;
+    private int[] _hashes;
+    private int[] _slots;
+    private int _size;
+    /**
+     * Entry indexes in canonical key order; null if not yet computed since the last mutation.
+     */
+    private int[] _order;
+    private boolean _frozen;
+    /**
+     * Bumped by every change to the entry layout (but not by a value replacement), so that iterators fail fast.
+     */
+    private int _modCount;
+
+    NoCaseMap() {
+        this(MIN_CAPACITY);
+    }
+
+    NoCaseMap(int expectedSize) {
+        int capacity = Math.max(MIN_CAPACITY, expectedSize);
+        _keys = new NoCaseString[capacity];
+        _vals = new Object[capacity];
+        _hashes = new int[capacity];
+        _slots = new int[tableSizeFor(capacity)];
+        _order = NO_ORDER;
+    }
+
+    /**
+     * @return power-of-2 table size that keeps load factor at or below 0.5
+     */
+    private static int tableSizeFor(int entries) {
+        return Integer.highestOneBit(Math.max(2, entries) * 2 - 1) << 1;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return _size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof NoCaseString nckey && findEntry(nckey) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (key instanceof NoCaseString nckey) {
+            int ei = findEntry(nckey);
+            return ei >= 0 ? (V) _vals[ei] : null;
+        }
+        return null;
+    }
+
+    @Override
+    public V put(NoCaseString key, V value) {
+        requireNotFrozen();
+        Objects.requireNonNull(key);
+        int h = key.hashCode();
+        int mask = _slots.length - 1;
+        int si = spread(h) & mask;
+        while (true) {
+            int slot = _slots[si];
+            if (slot == 0) {
+                break;
+            }
+            int ei = slot - 1;
+            if (_hashes[ei] == h && _keys[ei].original().equalsIgnoreCase(key.original())) {
+                V old = (V) _vals[ei];
+                _vals[ei] = value;
+                return old;
+            }
+            si = (si + 1) & mask;
+        }
+        if (_size == _keys.length) {
+            grow();
+            return put(key, value);
+        }
+        int ei = _size++;
+        _keys[ei] = key;
+        _vals[ei] = value;
+        _hashes[ei] = h;
+        _slots[si] = ei + 1;
+        _order = null;
+        _modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        requireNotFrozen();
+        if (!(key instanceof NoCaseString nckey)) {
+            return null;
+        }
+        int si = findSlot(nckey);
+        if (si < 0) {
+            return null;
+        }
+        int ei = _slots[si] - 1;
+        V old = (V) _vals[ei];
+        deleteSlot(si);
+        int last = _size - 1;
+        if (ei != last) {
+            // Move the last entry into the vacated position and re-point its slot.
+            _slots[findSlotOfEntry(last)] = ei + 1;
+            _keys[ei] = _keys[last];
+            _vals[ei] = _vals[last];
+            _hashes[ei] = _hashes[last];
+        }
+        _keys[last] = null;
+        _vals[last] = null;
+        _size = last;
+        _order = null;
+        _modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        requireNotFrozen();
+        Arrays.fill(_keys, 0, _size, null);
+        Arrays.fill(_vals, 0, _size, null);
+        Arrays.fill(_slots, 0);
+        _size = 0;
+        _order = NO_ORDER;
+        _modCount++;
+    }
+
+    /**
+     * Compacts the map into exact-size arrays that are laid out in canonical key order.  Lookups remain hashed;
+     * iteration no longer needs an order index.  Any subsequent mutation throws {@link UnsupportedOperationException}.
+     *
+     * @return this map
+     */
+    NoCaseMap<V> freeze() {
+        if (_frozen) {
+            return this;
+        }
+        int[] order = order();
+        var keys = new NoCaseString[_size];
+        var vals = new Object[_size];
+        var hashes = new int[_size];
+        for (int i = 0; i < _size; i++) {
+            int ei = order[i];
+            keys[i] = _keys[ei];
+            vals[i] = _vals[ei];
+            hashes[i] = _hashes[ei];
+        }
+        _keys = keys;
+        _vals = vals;
+        _hashes = hashes;
+        rehash(tableSizeFor(_size));
+        _order = null;
+        _frozen = true;
+        _modCount++;
+        return this;
+    }
+
+    /**
+     * @return a new, non-frozen, map with the same entries as this one
+     */
+    NoCaseMap<V> copy() {
+        var copy = new NoCaseMap<V>(_size);
+        for (int ei = 0; ei < _size; ei++) {
+            copy.put(_keys[ei], (V) _vals[ei]);
+        }
+        return copy;
+    }
+
+    boolean isFrozen() {
+        return _frozen;
+    }
+
+    @Override
+    public Set<Entry<NoCaseString, V>> entrySet() {
+        return new AbstractSet<>()
+        {
+            @Override
+            public Iterator<Entry<NoCaseString, V>> iterator() {
+                return new OrderedIterator<>()
+                {
+                    @Override
+                    Entry<NoCaseString, V> at(int ei) {
+                        return new SimpleImmutableEntry<>(_keys[ei], (V) _vals[ei]);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return _size;
+            }
+        };
+    }
+
+    @Override
+    public Set<NoCaseString> keySet() {
+        return new AbstractSet<>()
+        {
+            @Override
+            public Iterator<NoCaseString> iterator() {
+                return new OrderedIterator<>()
+                {
+                    @Override
+                    NoCaseString at(int ei) {
+                        return _keys[ei];
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public int size() {
+                return _size;
+            }
+        };
+    }
+
+    private abstract class OrderedIterator<E> implements Iterator<E>
+    {
+        private final int[] _iterOrder = _frozen ? null : order();
+        private final int _iterSize = _size;
+        private final int _expectedModCount = _modCount;
+        private int _i;
+
+        @Override
+        public boolean hasNext() {
+            return _i < _iterSize;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (_expectedModCount != _modCount) {
+                throw new ConcurrentModificationException();
+            }
+            int ei = _iterOrder == null ? _i : _iterOrder[_i];
+            ++_i;
+            return at(ei);
+        }
+
+        abstract E at(int ei);
+    }
+
+    private int[] order() {
+        var order = _order;
+        if (order == null) {
+            Integer[] boxed = new Integer[_size];
+            for (int i = 0; i < _size; i++) {
+                boxed[i] = i;
+            }
+            Arrays.sort(boxed, (a, b) -> _keys[a].compareTo(_keys[b]));
+            order = new int[_size];
+            for (int i = 0; i < _size; i++) {
+                order[i] = boxed[i];
+            }
+            _order = order;
+        }
+        return order;
+    }
+
+    private int findEntry(NoCaseString key) {
+        int si = findSlot(key);
+        return si >= 0 ? _slots[si] - 1 : -1;
+    }
+
+    private int findSlot(NoCaseString key) {
+        int h = key.hashCode();
+        int mask = _slots.length - 1;
+        int si = spread(h) & mask;
+        while (true) {
+            int slot = _slots[si];
+            if (slot == 0) {
+                return -1;
+            }
+            int ei = slot - 1;
+            if (_hashes[ei] == h && _keys[ei].original().equalsIgnoreCase(key.original())) {
+                return si;
+            }
+            si = (si + 1) & mask;
+        }
+    }
+
+    private int findSlotOfEntry(int ei) {
+        int mask = _slots.length - 1;
+        int si = spread(_hashes[ei]) & mask;
+        while (_slots[si] != ei + 1) {
+            si = (si + 1) & mask;
+        }
+        return si;
+    }
+
+    /**
+     * Backward-shift deletion: keeps every remaining entry reachable from its home slot without tombstones.
+     */
+    private void deleteSlot(int si) {
+        int mask = _slots.length - 1;
+        int hole = si;
+        int next = (hole + 1) & mask;
+        while (_slots[next] != 0) {
+            int home = spread(_hashes[_slots[next] - 1]) & mask;
+            // Move entry at 'next' into the hole if its home is not cyclically within (hole, next].
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                _slots[hole] = _slots[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        _slots[hole] = 0;
+    }
+
+    private void grow() {
+        int capacity = _keys.length * 2;
+        _keys = Arrays.copyOf(_keys, capacity);
+        _vals = Arrays.copyOf(_vals, capacity);
+        _hashes = Arrays.copyOf(_hashes, capacity);
+        rehash(tableSizeFor(capacity));
+    }
+
+    private void rehash(int tableSize) {
+        _slots = new int[tableSize];
+        int mask = tableSize - 1;
+        for (int ei = 0; ei < _size; ei++) {
+            int si = spread(_hashes[ei]) & mask;
+            while (_slots[si] != 0) {
+                si = (si + 1) & mask;
+            }
+            _slots[si] = ei + 1;
+        }
+    }
+
+    private void requireNotFrozen() {
+        if (_frozen) {
+            throw new UnsupportedOperationException("Frozen map!");
+        }
+    }
+}
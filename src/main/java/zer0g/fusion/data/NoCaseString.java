@@ -8,6 +8,7 @@ import java.util.Objects;
 public final class NoCaseString implements CharSequence, Comparable<NoCaseString>
 {
     private final String _original;
+    private int _hash;
 
     public static NoCaseString nocase(String str) {
         return new NoCaseString(str);
@@ -49,16 +50,37 @@ public final class NoCaseString implements CharSequence, Comparable<NoCaseString
         return _original;
     }
 
+    /**
+     * The case-folded hash is computed once and cached, as with {@link String#hashCode()}.  Each char is folded the
+     * same way {@link String#equalsIgnoreCase(String)} folds it, so equal strings are guaranteed the same hash.
+     */
     @Override
     public int hashCode() {
-        return _original.toLowerCase().hashCode();
+        int h = _hash;
+        if (h == 0) {
+            h = foldedHash(_original);
+            _hash = h;
+        }
+        return h;
+    }
+
+    static int foldedHash(String str) {
+        return foldedHash(str, 0, str.length());
+    }
+
+    static int foldedHash(String str, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(str.charAt(i)));
+        }
+        return h;
     }
 
     @Override
     public boolean equals(Object obj) {
-        if (obj == null) return false;
-        if (!(obj instanceof NoCaseString))
+        if (obj == this) return true;
+        if (!(obj instanceof NoCaseString o))
             return false;
-        return 0 == compareTo((NoCaseString) obj);
+        return hashCode() == o.hashCode() && _original.equalsIgnoreCase(o._original);
     }
 }
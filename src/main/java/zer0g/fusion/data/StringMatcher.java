@@ -0,0 +1,365 @@
+package zer0g.fusion.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A compiled, full-match, regular expression; obtained with {@link #of(String)}, which caches it by regex string so
+ * that every field domain, validator and ident using the same regex shares the one compiled matcher.
+ * <p/>
+ * Regexes that are just a sequence of (quantified) character classes, e.g. {@code [_\p{L}][_\p{L}\d]*} or
+ * {@code [A-Z]{2,3}-\d+}, are compiled to a small bit-set NFA over the quantified classes, which matches in a single
+ * pass without backtracking or allocation.  Anything else (groups, alternation, back-references...) uses the
+ * precompiled {@link Pattern}.
+ */
+abstract class StringMatcher
+{
+    private static final int MAX_CACHED_MATCHERS = 1024;
+    private static final Map<String, StringMatcher> _matchers = new ConcurrentHashMap<>();
+
+    /**
+     * @return the (cached) compiled matcher for the regex
+     * @throws java.util.regex.PatternSyntaxException
+     *       if the regex is invalid
+     */
+    static StringMatcher of(String regex) {
+        var matcher = _matchers.get(regex);
+        if (matcher == null) {
+            matcher = ClassSequence.compile(regex);
+            if (matcher == null) {
+                matcher = new Regex(regex);
+            }
+            if (_matchers.size() < MAX_CACHED_MATCHERS) {
+                var old = _matchers.putIfAbsent(regex, matcher);
+                if (old != null) {
+                    matcher = old;
+                }
+            }
+        }
+        return matcher;
+    }
+
+    private final String _regex;
+
+    private StringMatcher(String regex) {
+        _regex = regex;
+    }
+
+    /**
+     * @return true if the WHOLE string matches
+     */
+    abstract boolean matches(String s);
+
+    final String regex() {
+        return _regex;
+    }
+
+    @Override
+    public String toString() {
+        return _regex;
+    }
+
+    private static final class Regex extends StringMatcher
+    {
+        private final Pattern _pattern;
+
+        private Regex(String regex) {
+            super(regex);
+            _pattern = Pattern.compile(regex);
+        }
+
+        @Override
+        boolean matches(String s) {
+            return _pattern.matcher(s).matches();
+        }
+    }
+
+    /**
+     * One character class, e.g. {@code [a-z_]}, {@code \d} or a literal char.
+     */
+    private static final class CharClass
+    {
+        private final long[] _ascii = new long[2];
+        private final List<int[]> _ranges = new ArrayList<>();
+        private boolean _letters;
+        private boolean _negated;
+
+        private void add(int from, int to) {
+            for (int c = from; c <= Math.min(to, 127); c++) {
+                _ascii[c >> 6] |= 1L << (c & 63);
+            }
+            if (to > 127) {
+                _ranges.add(new int[]{Math.max(from, 128), to});
+            }
+        }
+
+        private void add(CharClass other) {
+            if (other._negated) {
+                throw new UnsupportedOperationException();
+            }
+            _ascii[0] |= other._ascii[0];
+            _ascii[1] |= other._ascii[1];
+            _ranges.addAll(other._ranges);
+            _letters |= other._letters;
+        }
+
+        private boolean test(int cp) {
+            boolean in;
+            if (cp < 128) {
+                in = (_ascii[cp >> 6] & (1L << (cp & 63))) != 0 || (_letters && Character.isLetter(cp));
+            } else {
+                in = _letters && Character.isLetter(cp);
+                for (int i = 0; !in && i < _ranges.size(); i++) {
+                    in = cp >= _ranges.get(i)[0] && cp <= _ranges.get(i)[1];
+                }
+            }
+            return in != _negated;
+        }
+    }
+
+    /**
+     * NFA over a sequence of quantified character classes.  State (i, n) means "n repetitions of class i matched";
+     * for an unbounded class, n saturates at its minimum.  The state set is a bit-mask, so at most 64 states.
+     */
+    private static final class ClassSequence extends StringMatcher
+    {
+        private static final int UNBOUNDED = -1;
+
+        private final CharClass[] _classes;
+        private final int[] _min;
+        private final int[] _max;
+        /**
+         * Bit index of state (i, 0); state (i, n) is bit _base[i] + n.  _base[N] is the accepting state.
+         */
+        private final int[] _base;
+
+        private ClassSequence(String regex, List<CharClass> classes, List<int[]> quantifiers) {
+            super(regex);
+            int n = classes.size();
+            _classes = classes.toArray(new CharClass[0]);
+            _min = new int[n];
+            _max = new int[n];
+            _base = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                _min[i] = quantifiers.get(i)[0];
+                _max[i] = quantifiers.get(i)[1];
+                _base[i + 1] = _base[i] + (_max[i] == UNBOUNDED ? _min[i] : _max[i]) + 1;
+            }
+        }
+
+        /**
+         * @return null if the regex is not just a sequence of quantified character classes, or needs too many states
+         */
+        static ClassSequence compile(String regex) {
+            Pattern.compile(regex);     // reject invalid regexes with the standard exception
+            var classes = new ArrayList<CharClass>();
+            var quantifiers = new ArrayList<int[]>();
+            int states = 1;
+            try {
+                int i = 0;
+                if (regex.startsWith("^")) {
+                    i++;
+                }
+                int end = regex.length();
+                if (end > i && regex.endsWith("$") && !regex.endsWith("\\$")) {
+                    end--;
+                }
+                while (i < end) {
+                    var cc = new CharClass();
+                    i = parseAtom(regex, i, end, cc);
+                    int min = 1, max = 1;
+                    if (i < end) {
+                        switch (regex.charAt(i)) {
+                            case '*' -> {
+                                min = 0;
+                                max = UNBOUNDED;
+                                i++;
+                            }
+                            case '+' -> {
+                                max = UNBOUNDED;
+                                i++;
+                            }
+                            case '?' -> {
+                                min = 0;
+                                i++;
+                            }
+                            case '{' -> {
+                                int close = regex.indexOf('}', i);
+                                var bounds = regex.substring(i + 1, close).split(",", -1);
+                                min = Integer.parseInt(bounds[0]);
+                                max = bounds.length == 1 ? min : bounds[1].isEmpty() ? UNBOUNDED
+                                                                                      : Integer.parseInt(bounds[1]);
+                                i = close + 1;
+                            }
+                        }
+                        if (i < end && "*+?{".indexOf(regex.charAt(i)) >= 0) {
+                            return null;        // possessive/lazy/stacked quantifiers
+                        }
+                    }
+                    classes.add(cc);
+                    quantifiers.add(new int[]{min, max});
+                    states += (max == UNBOUNDED ? min : max) + 1;
+                    if (states > 64) {
+                        return null;
+                    }
+                }
+            } catch (RuntimeException e) {
+                return null;
+            }
+            return new ClassSequence(regex, classes, quantifiers);
+        }
+
+        private static int parseAtom(String regex, int i, int end, CharClass cc) {
+            char c = regex.charAt(i);
+            switch (c) {
+                case '[' -> {
+                    i++;
+                    if (regex.charAt(i) == '^') {
+                        cc._negated = true;
+                        i++;
+                    }
+                    if (regex.charAt(i) == ']') {
+                        throw new UnsupportedOperationException();
+                    }
+                    while (regex.charAt(i) != ']') {
+                        int from;
+                        if (regex.charAt(i) == '\\') {
+                            var escaped = new CharClass();
+                            i = parseEscape(regex, i, escaped);
+                            if (escaped._ranges.isEmpty() && !escaped._letters && singleAscii(escaped) >= 0) {
+                                from = singleAscii(escaped);
+                            } else {
+                                cc.add(escaped);
+                                continue;
+                            }
+                        } else if (regex.charAt(i) == '[' || regex.charAt(i) == '&') {
+                            throw new UnsupportedOperationException();
+                        } else {
+                            from = regex.charAt(i++);
+                        }
+                        if (regex.charAt(i) == '-' && regex.charAt(i + 1) != ']') {
+                            int to = regex.charAt(i + 1);
+                            if (to == '\\' || to == '[') {
+                                throw new UnsupportedOperationException();
+                            }
+                            cc.add(from, to);
+                            i += 2;
+                        } else {
+                            cc.add(from, from);
+                        }
+                    }
+                    return i + 1;
+                }
+                case '\\' -> {
+                    return parseEscape(regex, i, cc);
+                }
+                case '.' -> {
+                    cc._negated = true;
+                    cc.add('\n', '\n');
+                    cc.add('\r', '\r');
+                    cc.add('\u0085', '\u0085');
+                    cc.add('\u2028', '\u2029');
+                    return i + 1;
+                }
+                case '(', ')', '|', '*', '+', '?', '{', '}', '^', '$', ']' -> throw new UnsupportedOperationException();
+                default -> {
+                    if (Character.isSurrogate(c)) {
+                        throw new UnsupportedOperationException();
+                    }
+                    cc.add(c, c);
+                    return i + 1;
+                }
+            }
+        }
+
+        private static int singleAscii(CharClass cc) {
+            int found = -1;
+            for (int c = 0; c < 128; c++) {
+                if ((cc._ascii[c >> 6] & (1L << (c & 63))) != 0) {
+                    if (found >= 0) {
+                        return -1;
+                    }
+                    found = c;
+                }
+            }
+            return found;
+        }
+
+        private static int parseEscape(String regex, int i, CharClass cc) {
+            char e = regex.charAt(i + 1);
+            switch (e) {
+                case 'd' -> cc.add('0', '9');
+                case 'w' -> {
+                    cc.add('a', 'z');
+                    cc.add('A', 'Z');
+                    cc.add('0', '9');
+                    cc.add('_', '_');
+                }
+                case 's' -> {
+                    cc.add('\t', '\r');
+                    cc.add(' ', ' ');
+                }
+                case 'p' -> {
+                    if (!regex.startsWith("{L}", i + 2)) {
+                        throw new UnsupportedOperationException();
+                    }
+                    cc._letters = true;
+                    return i + 5;
+                }
+                case 't' -> cc.add('\t', '\t');
+                case 'n' -> cc.add('\n', '\n');
+                case 'r' -> cc.add('\r', '\r');
+                default -> {
+                    if (Character.isLetterOrDigit(e)) {
+                        throw new UnsupportedOperationException();   // \D, \b, \1, \Q, \x... etc.
+                    }
+                    cc.add(e, e);
+                }
+            }
+            return i + 2;
+        }
+
+        private long closure(long states) {
+            for (int i = 0; i < _classes.length; i++) {
+                // Any state (i, n >= min) may move on to (i+1, 0).
+                long done = (_max[i] == UNBOUNDED ? 1L : (1L << (_max[i] - _min[i] + 1)) - 1) << (_base[i] + _min[i]);
+                if ((states & done) != 0) {
+                    states |= 1L << _base[i + 1];
+                }
+            }
+            return states;
+        }
+
+        @Override
+        boolean matches(String s) {
+            long states = closure(1L);
+            for (int k = 0; k < s.length() && states != 0; ) {
+                int cp = s.codePointAt(k);
+                k += Character.charCount(cp);
+                long next = 0;
+                for (int i = 0; i < _classes.length; i++) {
+                    int base = _base[i];
+                    int width = _base[i + 1] - base;
+                    long mine = (states >>> base) & ((1L << width) - 1);
+                    if (mine != 0 && _classes[i].test(cp)) {
+                        if (_max[i] == UNBOUNDED) {
+                            // (i, n) -> (i, min(n+1, min)): shift, then fold the overflow back into the last bit.
+                            long shifted = mine << 1;
+                            if ((shifted >>> width) != 0) {
+                                shifted = (shifted & ((1L << width) - 1)) | (1L << (width - 1));
+                            }
+                            next |= shifted << base;
+                        } else {
+                            next |= ((mine << 1) & ((1L << width) - 1)) << base;
+                        }
+                    }
+                }
+                states = closure(next);
+            }
+            return (states & (1L << _base[_classes.length])) != 0;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BlobTest
+{
+    private static final byte[] CONTENT = "hello, off-heap world".getBytes(StandardCharsets.US_ASCII);
+
+    private static void assertContent(byte[] expected, Blob blob) throws IOException {
+        assertEquals(expected.length, blob.length());
+        assertArrayEquals(expected, blob.bytesCopy());
+        assertEquals(new Blob(expected).toString(), blob.toString());
+        var out = new ByteArrayOutputStream();
+        assertEquals(expected.length, blob.transferTo(Channels.newChannel(out)));
+        assertArrayEquals(expected, out.toByteArray());
+    }
+
+    @Test
+    void direct() throws IOException {
+        var blob = Blob.allocateDirect(CONTENT.length);
+        assertTrue(blob.isDirect());
+        blob.write(0, CONTENT, 0, 5);
+        blob.write(5, CONTENT, 5, CONTENT.length - 5);
+        assertThrows(IndexOutOfBoundsException.class, () -> blob.write(1, CONTENT, 0, CONTENT.length));
+        assertContent(CONTENT, blob);
+        assertEquals("hello, off-heap world", blob.as(StandardCharsets.US_ASCII));
+
+        var dst = new byte[8];
+        assertEquals(8, blob.read(0, dst, 0, 8));
+        assertEquals("hello, o", new String(dst, StandardCharsets.US_ASCII));
+        assertEquals(5, blob.read(CONTENT.length - 5, dst, 0, 8));
+        assertEquals(-1, blob.read(CONTENT.length, dst, 0, 8));
+
+        var slice = blob.slice(7, 8);
+        assertTrue(slice.isReadOnly());
+        assertEquals(8, slice.remaining());
+        assertEquals('o', slice.get(0));
+
+        blob.ensureReadonly();
+        assertThrows(IllegalStateException.class, () -> blob.write(0, CONTENT, 0, 1));
+    }
+
+    @Test
+    void wrap() throws IOException {
+        var buffer = ByteBuffer.allocateDirect(CONTENT.length + 2).put((byte) 1).put(CONTENT).flip();
+        buffer.get();
+        var blob = Blob.wrap(buffer);
+        assertFalse(blob.state().isReadonly());
+        assertContent(CONTENT, blob);
+        var readonly = Blob.wrap(ByteBuffer.wrap(CONTENT).asReadOnlyBuffer());
+        assertTrue(readonly.state().isReadonly());
+        assertThrows(ReadOnlyBufferException.class, () -> readonly.asReadOnlyBuffer().put(0, (byte) 0));
+    }
+
+    @Test
+    void map() throws IOException {
+        var file = Files.createTempFile("blob", ".bin");
+        try {
+            Files.write(file, CONTENT);
+            var blob = Blob.map(file, FileChannel.MapMode.READ_ONLY);
+            assertTrue(blob.isDirect());
+            assertTrue(blob.state().isReadonly());
+            assertContent(CONTENT, blob);
+
+            var writable = Blob.map(file, FileChannel.MapMode.READ_WRITE);
+            writable.set(0, (byte) 'j');
+            assertEquals('j', blob.get(0));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void streams() throws IOException {
+        var content = new byte[20000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        var blob = new Blob(content.length);
+        try (var out = blob.writerStream()) {
+            out.write(content, 0, 100);
+            out.write(content[100]);
+            out.write(content, 101, content.length - 101);
+            assertThrows(EOFException.class, () -> out.write(1));
+            assertThrows(IOException.class, blob::writerStream);
+        }
+        blob.ensureReadonly();
+        assertArrayEquals(content, blob.bytesCopy());
+
+        try (var in = blob.readerStream()) {
+            assertEquals(0, in.read());
+            assertEquals(1, in.skip(1));
+            var buf = new byte[300];
+            assertEquals(300, in.read(buf, 0, 300));
+            assertEquals((byte) 0xFF, buf[253]);
+            assertEquals(content.length - 302, in.available());
+            var rest = in.readAllBytes();
+            assertEquals(content.length - 302, rest.length);
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(buf, 0, 1));
+        }
+        try (var in = blob.readerStream()) {
+            for (int i = 0; i < 256; i++) {
+                assertEquals(i, in.read());
+            }
+        }
+        var direct = Blob.allocateDirect(content.length);
+        try (var out = direct.writerChannel(); var in = blob.readerStream()) {
+            assertEquals(content.length, out.write(ByteBuffer.wrap(in.readAllBytes())));
+        }
+        var sink = new ByteArrayOutputStream();
+        try (var in = direct.readerStream()) {
+            assertEquals(content.length, in.transferTo(sink));
+        }
+        assertArrayEquals(content, sink.toByteArray());
+        try (var in = blob.readerStream()) {
+            assertEquals(content.length, in.readAllBytes().length);
+            assertEquals(0, in.transferTo(sink));
+        }
+        try (var in = new Blob(0).readerStream()) {
+            assertEquals(0, in.transferTo(sink));
+        }
+        try (var in = direct.readerChannel()) {
+            var dst = ByteBuffer.allocate(content.length + 1);
+            assertEquals(content.length, in.read(dst));
+            assertEquals(-1, in.read(dst));
+        }
+    }
+
+    @Test
+    void from() throws IOException {
+        assertArrayEquals(CONTENT, Blob.from(new ByteArrayInputStream(CONTENT)).bytesCopy());
+        assertArrayEquals(Arrays.copyOf(CONTENT, 5), Blob.from(new ByteArrayInputStream(CONTENT), 5).bytesCopy());
+        assertThrows(EOFException.class, () -> Blob.from(new ByteArrayInputStream(CONTENT), CONTENT.length + 1));
+        var file = Files.createTempFile("blob", ".bin");
+        try {
+            Files.write(file, CONTENT);
+            var blob = Blob.from(file);
+            assertFalse(blob.isDirect());
+            assertContent(CONTENT, blob);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void json() throws IOException {
+        var random = new Random(7);
+        for (int length : new int[]{0, 1, 2, 3, 3071, 3072, 3073, 6144, 20000}) {
+            var content = new byte[length];
+            random.nextBytes(content);
+            var blob = new Blob(content).ensureReadonly();
+            var json = new StringWriter();
+            FusionValue.from(blob).writeTo(json);
+            assertEquals('"' + blob.toString() + '"', json.toString());
+            var read = (Blob) FusionValueType.BLOB.read(new StringReader(json.toString())).get();
+            assertTrue(read.state().isReadonly());
+            assertArrayEquals(content, read.bytesCopy(), "length " + length);
+        }
+        assertThrows(IOException.class, () -> FusionValueType.BLOB.read(new StringReader("\"AA==AAAA\"")));
+        assertThrows(IOException.class, () -> FusionValueType.BLOB.read(new StringReader("\"A\u00e9AA\"")));
+        assertThrows(IOException.class, () -> FusionValueType.BLOB.read(new StringReader("\"AAAA")));
+    }
+}
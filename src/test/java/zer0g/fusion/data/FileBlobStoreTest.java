@@ -0,0 +1,95 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileBlobStoreTest
+{
+    private Path dir;
+
+    @BeforeEach
+    void createDir() throws IOException {
+        dir = Files.createTempDirectory("blobstore");
+    }
+
+    @AfterEach
+    void deleteDir() throws IOException {
+        try (var files = Files.walk(dir)) {
+            for (var path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static byte[] content(int length, int seed) {
+        var bytes = new byte[length];
+        new Random(seed).nextBytes(bytes);
+        return bytes;
+    }
+
+    private long storedFiles() throws IOException {
+        try (var files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    void dedupAndResolve() throws IOException {
+        var store = new FileBlobStore(dir, 1 << 20);
+        var content = content(100_000, 1);
+        var ref = store.put(new Blob(content));
+        assertEquals(64, ref.hash().length());
+        assertEquals(100_000L, ref.size());
+        assertEquals(ref, store.put(new ByteArrayInputStream(content)));
+        var empty = store.put(Blob.allocateDirect(0));
+        assertEquals(0L, empty.size());
+        assertEquals(ref, store.put(new Blob(content)));
+        assertEquals(2, storedFiles());
+        assertEquals(0, store.get(empty).length());
+        assertTrue(store.contains(ref));
+
+        var blob = store.get(ref);
+        assertTrue(blob.isDirect());
+        assertTrue(blob.state().isReadonly());
+        assertArrayEquals(content, blob.bytesCopy());
+        assertSame(blob, store.get(ref));
+        assertSame(blob, store.get(BlobRef.from(ref.hash().toUpperCase())));
+        assertThrows(IOException.class, () -> store.get(new BlobRef(ref.hash(), 5L)));
+
+        assertTrue(store.delete(ref));
+        assertFalse(store.contains(ref));
+        assertNull(store.get(ref));
+        assertArrayEquals(content, blob.bytesCopy());
+    }
+
+    @Test
+    void lru() throws IOException {
+        var store = new FileBlobStore(dir, 2500);
+        var refs = new BlobRef[3];
+        for (int i = 0; i < refs.length; i++) {
+            refs[i] = store.put(new Blob(content(1000, i)));
+        }
+        var first = store.get(refs[0]);
+        store.get(refs[1]);
+        assertEquals(2000, store.cachedBytes());
+        assertSame(first, store.get(refs[0]));
+        store.get(refs[2]);
+        assertEquals(2000, store.cachedBytes());
+        assertSame(first, store.get(refs[0]));
+        assertEquals(2000, store.cachedBytes());
+
+        var big = store.put(new Blob(content(3000, 9)));
+        assertNotNull(store.get(big));
+        assertEquals(2000, store.cachedBytes());
+    }
+}
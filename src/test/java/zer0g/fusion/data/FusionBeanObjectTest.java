@@ -222,4 +222,59 @@ class FusionBeanObjectTest
         assertDoesNotThrow(() -> container.bean(bean2A));
         assertThrows(IllegalArgumentException.class, () -> container.bean(keyA));
     }
+
+    @Test
+    void copyOnWriteClones() {
+        beanA.setName("cow").setInt(1).setInts(List.of(1, 2, 3));
+        var clone = (TestBean) beanA.cloneForWrite();
+        clone.setInt(2);
+        beanA.setLong(3);
+        assertEquals(1, beanA.getInt());
+        assertEquals(2, clone.getInt());
+        assertEquals(0, clone.getLong());
+        assertEquals(3, beanA.getLong());
+
+        beanA.ensureReadonly();
+        var writable = (TestBean) beanA.cloneForWrite();
+        assertSame(beanA.getInts(), writable.getInts());
+        writable.setPriority(9);
+        assertEquals(0, beanA.getPriority());
+        assertSame(beanA, beanA.cloneForRead());
+    }
+
+    @Test
+    void makeReadonly() {
+        var bean = beanFactory.builder().set("name", "built").set("int", 3).set("ints", List.of(4, 5)).build();
+        assertTrue(bean.state().isReadonly());
+        assertEquals("built", bean.getName());
+        assertEquals(List.of(4, 5), bean.getInts());
+        assertThrows(IllegalStateException.class, () -> bean.setInt(1));
+        assertThrows(FusionDataType.ValidationException.class, () -> beanFactory.builder().set("int", 3).build());
+        assertThrows(IllegalArgumentException.class, () -> beanFactory.builder().set("name", ""));
+
+        var bean2 = beanFactory2.builder().set("name", "b2").set("long", 7L).set("int", 11).build();
+        assertEquals(77L, bean2.getComputed());
+
+        var copy = beanFactory.makeReadonly(bean.getName(), bean.getUnit(), bean.getDate(), bean.getTime(),
+                                            bean.getBlob(), bean.getInt(), bean.getInts(), bean.getLong(),
+                                            bean.getLongMap(), bean.getPriority(), bean.getShort());
+        assertEquals(bean, copy);
+        assertThrows(IllegalArgumentException.class, () -> beanFactory.makeReadonly("too few"));
+        assertThrows(FusionDataType.ValidationException.class,
+                     () -> beanFactory.makeReadonly(null, bean.getUnit(), bean.getDate(), bean.getTime(),
+                                                    bean.getBlob(), bean.getInt(), bean.getInts(), bean.getLong(),
+                                                    bean.getLongMap(), bean.getPriority(), bean.getShort()));
+    }
+
+    @Test
+    void mapCloneForWrite() {
+        var map = new FusionMap<Long>(new FusionValueDomain(FusionValueType.MAP, "INTEGER.long"));
+        map.put(nocase("a"), 1L);
+        map.ensureReadonly();
+        var clone = (FusionMap<Long>) map.cloneForWrite();
+        clone.put(nocase("b"), 2L);
+        assertEquals(1, map.size());
+        assertEquals(2, clone.size());
+        assertEquals(2L, clone.get(nocase("B")));
+    }
 }
\ No newline at end of file
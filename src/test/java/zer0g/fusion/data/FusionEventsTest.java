@@ -0,0 +1,114 @@
+package zer0g.fusion.data;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusionEventsTest
+{
+    @FoType(fieldOrder = {"a"})
+    interface EventBean extends FusionBean
+    {
+        int getA();
+
+        EventBean setA(int value);
+    }
+
+    @FoType(fieldOrder = {"a", "b", "c"})
+    interface WideBean extends FusionBean
+    {
+        Integer getA();
+
+        WideBean setA(Integer value);
+
+        Integer getB();
+
+        WideBean setB(Integer value);
+
+        Integer getC();
+
+        WideBean setC(Integer value);
+    }
+
+    record Unannotated(String name, int size)
+    {
+    }
+
+    private static List<RecordedEvent> record(Recording recording, IoRunnable action) throws IOException {
+        recording.start();
+        action.run();
+        recording.stop();
+        var file = Files.createTempFile("fusion-events", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static Stream<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals("zer0g.fusion." + name));
+    }
+
+    @Test
+    void events() throws IOException {
+        try (var recording = new Recording()) {
+            recording.enable(FusionEvents.FobTypeInitialization.class);
+            recording.enable(FusionEvents.OnDemandTypeCreation.class);
+            recording.enable(FusionEvents.SlowObjectRead.class).withThreshold(Duration.ZERO);
+            var events = record(recording, () -> {
+                var type = (FusionBeanObjectType<EventBean>) Fusion.fobType(EventBean.class);
+                FusionRecordObjectType.of(Unannotated.class);
+                type.read("{\"a\":1}");
+            });
+            assertTrue(named(events, "FobTypeInitialization").anyMatch(
+                  e -> e.getString("fobTypeClass").equals(Fusion.fobTypeClassNameFor(EventBean.class))));
+            assertTrue(named(events, "OnDemandTypeCreation").anyMatch(
+                  e -> e.getClass("recordClass").getName().equals(Unannotated.class.getName())));
+            var read = named(events, "SlowObjectRead").findFirst().orElseThrow();
+            assertEquals(EventBean.class.getName(), read.getString("type"));
+            assertEquals(7, read.getLong("chars"));
+            assertEquals(1, read.getInt("fields"));
+        }
+        try (var recording = new Recording()) {
+            recording.enable(FusionEvents.SlowObjectRead.class).withThreshold(Duration.ofHours(1));
+            var type = (FusionBeanObjectType<EventBean>) Fusion.fobType(EventBean.class);
+            assertTrue(record(recording, () -> type.read("{\"a\":2}")).isEmpty());
+        }
+    }
+
+    @Test
+    void projectedReadCountsBuiltFields() throws IOException {
+        var type = (FusionBeanObjectType<WideBean>) Fusion.fobType(WideBean.class);
+        var projection = FusionProjection.of(type, "b");
+        try (var recording = new Recording()) {
+            recording.enable(FusionEvents.SlowObjectRead.class).withThreshold(Duration.ZERO);
+            var events = record(recording, () -> type.read("{\"a\":1,\"b\":2,\"c\":3}", projection));
+            var read = named(events, "SlowObjectRead").findFirst().orElseThrow();
+            assertEquals(WideBean.class.getName(), read.getString("type"));
+            assertEquals(1, read.getInt("fields"));
+        }
+    }
+
+    @Test
+    void typeInitEventIsReleased() throws ReflectiveOperationException {
+        var field = Fusion.fobType(EventBean.class).getClass().getDeclaredField("__typeInit");
+        field.setAccessible(true);
+        assertNull(field.get(null));
+    }
+
+    private interface IoRunnable
+    {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,227 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusionFlowTest
+{
+    private static final Executor DIRECT = Runnable::run;
+
+    @FoType(fieldOrder = {"id", "text"})
+    interface Message extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        Message setId(Long value);
+
+        String getText();
+
+        Message setText(String value);
+    }
+
+    /**
+     * Records every signal, and requests only what the test asks for.
+     */
+    static final class Probe<T> implements Flow.Subscriber<T>
+    {
+        final List<T> items = new ArrayList<>();
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        Flow.Subscription subscription;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+
+    static final class TrackedStream extends ByteArrayInputStream
+    {
+        boolean closed;
+
+        TrackedStream(String data) {
+            super(data.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private static FusionObjectType<Message> type() {
+        return (FusionObjectType<Message>) Fusion.fobType(Message.class);
+    }
+
+    private static String ndjson(int count) {
+        var json = new StringBuilder();
+        for (long id = 1; id <= count; id++) {
+            json.append(((Message) type().make()).setId(id).setText("m" + id).toJsonString()).append('\n');
+        }
+        return json.toString();
+    }
+
+    @Test
+    void backPressure() {
+        var in = new TrackedStream(ndjson(5));
+        var probe = new Probe<Message>();
+        FusionFlow.publisher(type(), in, DIRECT).subscribe(probe);
+        assertTrue(probe.items.isEmpty());
+        probe.subscription.request(1);
+        assertEquals(1, probe.items.size());
+        assertTrue(probe.items.get(0).state().isReadonly());
+        probe.subscription.request(2);
+        assertEquals(List.of(1L, 2L, 3L), probe.items.stream().map(Message::getId).toList());
+        assertFalse(probe.done.isDone());
+        assertFalse(in.closed);
+        probe.subscription.cancel();
+        probe.subscription.request(10);
+        assertEquals(3, probe.items.size());
+        assertFalse(probe.done.isDone());
+        assertTrue(in.closed);
+    }
+
+    @Test
+    void closedBeforeFirstRead() {
+        var in = new TrackedStream(ndjson(2));
+        var probe = new Probe<Message>();
+        FusionFlow.publisher(type(), in, DIRECT).subscribe(probe);
+        probe.subscription.cancel();
+        assertTrue(in.closed);
+        assertTrue(probe.items.isEmpty());
+
+        var channelClosed = new boolean[1];
+        var channel = new ReadableByteChannel()
+        {
+            @Override
+            public int read(ByteBuffer dst) {
+                throw new AssertionError("read");
+            }
+
+            @Override
+            public boolean isOpen() {
+                return !channelClosed[0];
+            }
+
+            @Override
+            public void close() {
+                channelClosed[0] = true;
+            }
+        };
+        var rejected = new Probe<Message>();
+        FusionFlow.publisher(type(), channel, DIRECT).subscribe(rejected);
+        rejected.subscription.request(-1);
+        assertInstanceOf(IllegalArgumentException.class, cause(rejected.done));
+        assertTrue(channelClosed[0]);
+    }
+
+    @Test
+    void roundTrip() throws Exception {
+        var file = Files.createTempFile("fusion-flow", ".ndjson");
+        try {
+            var json = ndjson(100);
+            Files.writeString(file, json);
+            var publisher = FusionFlow.publisher(type(), file, ForkJoinPool.commonPool());
+            // A file can be read by many subscribers.
+            for (int batchSize : new int[]{1, 7, 1000}) {
+                var out = new ByteArrayOutputStream();
+                var encoder = FusionFlow.subscriber(Channels.newChannel(out), batchSize);
+                publisher.subscribe(encoder);
+                assertEquals(100L, encoder.result().get(10, TimeUnit.SECONDS));
+                assertEquals(json, out.toString(StandardCharsets.UTF_8));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void errors() {
+        var malformed = new Probe<Message>();
+        var in = new TrackedStream(ndjson(1) + "{\"id\":2,");
+        FusionFlow.publisher(type(), in, DIRECT).subscribe(malformed);
+        malformed.subscription.request(Long.MAX_VALUE);
+        assertEquals(1, malformed.items.size());
+        assertTrue(malformed.done.isCompletedExceptionally());
+        assertTrue(in.closed);
+
+        var empty = new Probe<Message>();
+        FusionFlow.publisher(type(), new ByteArrayInputStream(new byte[0]), DIRECT).subscribe(empty);
+        empty.subscription.request(1);
+        assertTrue(empty.done.isDone() && !empty.done.isCompletedExceptionally());
+
+        var nulls = new Probe<Message>();
+        FusionFlow.publisher(type(), new TrackedStream("null"), DIRECT).subscribe(nulls);
+        nulls.subscription.request(1);
+        assertInstanceOf(IOException.class, cause(nulls.done));
+
+        var publisher = FusionFlow.publisher(type(), new TrackedStream(ndjson(1)), DIRECT);
+        var first = new Probe<Message>();
+        publisher.subscribe(first);
+        first.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, cause(first.done));
+        var second = new Probe<Message>();
+        publisher.subscribe(second);
+        assertInstanceOf(IllegalStateException.class, cause(second.done));
+
+        assertThrows(IllegalArgumentException.class, () -> FusionFlow.subscriber(new ByteArrayOutputStream(), 0));
+    }
+
+    @Test
+    void writeError() {
+        var out = new OutputStream()
+        {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        var in = new TrackedStream(ndjson(10));
+        var encoder = FusionFlow.subscriber(out, 2);
+        FusionFlow.publisher(type(), in, DIRECT).subscribe(encoder);
+        var error = cause(encoder.result());
+        assertInstanceOf(IOException.class, error);
+        assertEquals("disk full", error.getMessage());
+        assertTrue(in.closed);
+    }
+
+    private static Throwable cause(CompletableFuture<?> future) {
+        var e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+}
@@ -0,0 +1,83 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusionIndexTest
+{
+    @FoType(fieldOrder = {"id", "status", "due"})
+    interface Task extends FusionBean
+    {
+        @FoField(isKey = true)
+        Integer getId();
+
+        Task setId(Integer value);
+
+        String getStatus();
+
+        Task setStatus(String value);
+
+        LocalDate getDue();
+
+        Task setDue(LocalDate value);
+    }
+
+    private static FusionBeanObjectType<Task> type() {
+        return (FusionBeanObjectType<Task>) Fusion.fobType(Task.class);
+    }
+
+    private static Task task(int id, String status, LocalDate due) {
+        return (Task) type().make().setId(id).setStatus(status).setDue(due).ensureReadonly();
+    }
+
+    private static List<Integer> ids(Collection<Task> tasks) {
+        return tasks.stream().map(Task::getId).sorted().toList();
+    }
+
+    @Test
+    void maintained() {
+        var day = LocalDate.of(2024, 1, 1);
+        var set = FusionKeyedSet.hashed(type());
+        set.add(task(1, "open", day));
+        set.add(task(2, "done", day.plusDays(1)));
+        var byStatus = set.hashIndex("status");
+        var byDue = set.sortedIndex("DUE");
+        assertSame(byStatus, set.hashIndex("Status"));
+        assertSame(byDue, set.index("due"));
+        assertThrows(IllegalStateException.class, () -> set.sortedIndex("status"));
+        assertFalse(byStatus.isSorted());
+
+        set.add(task(3, "open", day.plusDays(2)));
+        set.add(task(4, null, null));
+        assertEquals(List.of(1, 3), ids(byStatus.get("open")));
+        assertEquals(List.of(4), ids(byStatus.get(null)));
+        assertEquals(Set.of(), byStatus.get("closed"));
+        assertEquals(List.of(2, 3), ids(byDue.range(day, false, null, true)));
+        assertEquals(List.of(1, 2), ids(byDue.range(null, true, day.plusDays(1), true)));
+        assertThrows(UnsupportedOperationException.class, () -> byStatus.range("a", true, "z", true));
+
+        set.put(task(1, "done", day.plusDays(5)));
+        assertEquals(List.of(3), ids(byStatus.get("open")));
+        assertEquals(List.of(1, 2), ids(byStatus.get("done")));
+        assertEquals(List.of(1), ids(byDue.range(day.plusDays(3), true, null, true)));
+
+        set.removeKey(task(2, null, null));
+        assertEquals(List.of(1), ids(byStatus.get("done")));
+        var it = set.iterator();
+        while (it.hasNext()) {
+            if (it.next().getId() == 3) {
+                it.remove();
+            }
+        }
+        assertTrue(byStatus.get("open").isEmpty());
+        assertEquals(2, byStatus.distinctCount());
+        set.clear();
+        assertEquals(0, byDue.distinctCount());
+    }
+}
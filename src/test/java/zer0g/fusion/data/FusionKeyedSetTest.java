@@ -0,0 +1,114 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusionKeyedSetTest
+{
+    @FoType(fieldOrder = {"order", "line", "sku"})
+    interface OrderLine extends FusionBean
+    {
+        @FoField(isKey = true)
+        String getOrder();
+
+        OrderLine setOrder(String value);
+
+        @FoField(isKey = true)
+        Integer getLine();
+
+        OrderLine setLine(Integer value);
+
+        String getSku();
+
+        OrderLine setSku(String value);
+    }
+
+    private static FusionBeanObjectType<OrderLine> type() {
+        return (FusionBeanObjectType<OrderLine>) Fusion.fobType(OrderLine.class);
+    }
+
+    private static OrderLine line(String order, int line, String sku) {
+        return (OrderLine) type().make().setOrder(order).setLine(line).setSku(sku).ensureReadonly();
+    }
+
+    private static List<String> skus(Iterable<OrderLine> lines) {
+        var skus = new ArrayList<String>();
+        lines.forEach(l -> skus.add(l.getSku()));
+        return skus;
+    }
+
+    @Test
+    void hashed() {
+        var set = FusionKeyedSet.hashed(type());
+        assertFalse(set.isSorted());
+        var a1 = line("a", 1, "x");
+        assertTrue(set.add(a1));
+        assertTrue(set.add(line("a", 2, "y")));
+        assertEquals(2, set.size());
+
+        assertSame(a1, set.getByKey("a", 1));
+        assertSame(a1, set.getByKey("a", 1L));
+        assertNull(set.getByKey("b", 1));
+        assertThrows(IllegalArgumentException.class, () -> set.getByKey("a"));
+
+        var key = type().makeKey();
+        key.setOrder("a").setLine(1);
+        assertSame(a1, set.get(key));
+        assertTrue(set.containsKey(key));
+        assertTrue(set.contains(a1));
+
+        var replacement = line("a", 1, "z");
+        assertFalse(set.contains(replacement));
+        assertSame(a1, set.put(replacement));
+        assertSame(replacement, set.get(a1));
+        assertFalse(set.remove(a1));
+        assertSame(replacement, set.removeKey(a1));
+        assertEquals(1, set.size());
+
+        assertThrows(IllegalStateException.class, () -> set.put(type().make().setOrder("c").setLine(1)));
+        assertThrows(UnsupportedOperationException.class, () -> set.withPrefix("a"));
+    }
+
+    @Test
+    void sorted() {
+        var set = FusionKeyedSet.sorted(type());
+        for (String order : List.of("b", "a", "c")) {
+            for (int i = 3; i > 0; i--) {
+                set.add(line(order, i, order + i));
+            }
+        }
+        assertEquals(List.of("a1", "a2", "a3", "b1", "b2", "b3", "c1", "c2", "c3"), skus(set));
+        assertEquals(List.of("b1", "b2", "b3"), skus(set.withPrefix("b")));
+        assertEquals(List.of("b2"), skus(set.withPrefix("b", 2)));
+        assertTrue(set.withPrefix("bb").isEmpty());
+        assertEquals(9, set.withPrefix().size());
+
+        var from = type().makeKey();
+        from.setOrder("a").setLine(3);
+        var to = type().makeKey();
+        to.setOrder("b").setLine(2);
+        assertEquals(List.of("a3", "b1", "b2"), skus(set.range(from, true, to, true)));
+        assertEquals(List.of("b1"), skus(set.range(from, false, to, false)));
+        assertEquals(List.of("a1", "a2", "a3", "b1"), skus(set.range(null, true, to, false)));
+    }
+
+    @Test
+    void concurrentReads() {
+        var set = FusionKeyedSet.hashed(type());
+        var misses = new AtomicInteger();
+        IntStream.range(0, 2000).parallel().forEach(i -> {
+            set.put(line("o", i, "s" + i));
+            if (set.getByKey("o", i) == null) {
+                misses.incrementAndGet();
+            }
+        });
+        assertEquals(0, misses.get());
+        assertEquals(2000, set.size());
+    }
+}
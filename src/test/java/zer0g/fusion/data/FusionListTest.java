@@ -0,0 +1,53 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusionListTest
+{
+    @Test
+    void freezesToPrimitiveArrays() {
+        var longs = new FusionList<Long>(new FusionValueDomain(FusionValueType.LIST, "INTEGER.long"));
+        longs.addAll(List.of(3L, 1L, 4L));
+        longs.ensureReadonly();
+        assertInstanceOf(FrozenValueList.class, longs.inner());
+        assertEquals(Long.valueOf(4), longs.get(2));
+        assertEquals(FusionValue.from(1L), longs.inner().get(1));
+        assertEquals("[3,1,4]", FusionValue.from(longs).toString());
+        assertThrows(IllegalStateException.class, () -> longs.add(5L));
+
+        var shorts = new FusionList<Short>(new FusionValueDomain(FusionValueType.LIST, "INTEGER.short"));
+        shorts.add((short) 7);
+        shorts.ensureReadonly();
+        assertEquals(Short.valueOf((short) 7), shorts.get(0));
+
+        var doubles = new FusionList<Double>(new FusionValueDomain(FusionValueType.LIST, "DECIMAL.double"));
+        doubles.addAll(List.of(0.5, -2.25));
+        doubles.ensureReadonly();
+        assertEquals(-2.25, doubles.get(1));
+
+        var bools = new FusionList<Boolean>(new FusionValueDomain(FusionValueType.LIST, "BOOL"));
+        bools.addAll(List.of(true, false, true));
+        bools.ensureReadonly();
+        assertEquals(Arrays.asList(true, false, true), new ArrayList<>(bools));
+        assertEquals("[true,false,true]", FusionValue.from(bools).toString());
+    }
+
+    @Test
+    void nullsAndCloneForWrite() {
+        var ints = new FusionList<Integer>(new FusionValueDomain(FusionValueType.LIST, "INTEGER"));
+        ints.add(1);
+        ints.add(null);
+        ints.ensureReadonly();
+        assertNull(ints.get(1));
+        var clone = (FusionList<Integer>) ints.cloneForWrite();
+        clone.add(2);
+        assertEquals(3, clone.size());
+        assertEquals(2, ints.size());
+    }
+}
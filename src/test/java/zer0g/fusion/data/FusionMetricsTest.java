@@ -0,0 +1,62 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusionMetricsTest
+{
+    @FoType(fieldOrder = {"name"})
+    interface MeteredBean extends FusionBean
+    {
+        @FoField(isNullable = false)
+        String getName();
+
+        MeteredBean setName(String value);
+
+        long getCount();
+
+        MeteredBean setCount(long value);
+    }
+
+    @AfterEach
+    void uninstall() {
+        Fusion.setMetrics(null);
+    }
+
+    @Test
+    void inMemory() throws IOException {
+        var metrics = new InMemoryFusionMetrics();
+        Fusion.setMetrics(metrics);
+        var type = (FusionBeanObjectType<MeteredBean>) Fusion.fobType(MeteredBean.class);
+        var json = "{\"name\":\"x\",\"count\":7}";
+
+        var bean = type.read(json);
+        assertEquals(json, bean.toJsonString());
+        assertThrows(FusionDataType.ValidationException.class, () -> type.make().setCount(1).doneWrite());
+        FusionValueType.INTEGER.from(1, new FusionValueDomain(FusionValueType.INTEGER, "big"));
+        assertThrows(IllegalArgumentException.class, () -> Fusion.fobType("no.such.Type"));
+
+        var snapshot = metrics.snapshot();
+        var stats = snapshot.types().get(type.name());
+        assertEquals(1, stats.parsed());
+        assertEquals(json.length(), stats.parsedChars());
+        assertEquals(1, stats.written());
+        assertEquals(json.length(), stats.writtenChars());
+        assertEquals(1, stats.validationFailures());
+        assertTrue(stats.validated() >= 1);
+        assertTrue(stats.parse().maxNanos() <= stats.parse().totalNanos());
+        assertEquals(stats.parse().maxNanos(), stats.parse().quantileNanos(1.0));
+        assertEquals(1, snapshot.resolutionMisses().get("no.such.Type (unresolved)"));
+        assertEquals(1, snapshot.bigConversions().get("INTEGER:Integer->BigInteger"));
+
+        metrics.clear();
+        assertTrue(metrics.snapshot().types().isEmpty());
+        Fusion.setMetrics(null);
+        type.read(json);
+        assertTrue(metrics.snapshot().types().isEmpty());
+    }
+}
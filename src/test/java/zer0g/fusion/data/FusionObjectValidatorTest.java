@@ -0,0 +1,105 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusionObjectValidatorTest
+{
+    @FoType(fieldOrder = {"sku", "qty"})
+    interface Line extends FusionBean
+    {
+        @FoField(isNullable = false)
+        String getSku();
+
+        Line setSku(String value);
+
+        @FoField(isNullable = false, range = "1,100")
+        Integer getQty();
+
+        Line setQty(Integer value);
+    }
+
+    @FoType(fieldOrder = {"name", "main", "lines"})
+    interface Basket extends FusionBean
+    {
+        @FoField(isNullable = false, range = "1,5")
+        String getName();
+
+        Basket setName(String value);
+
+        @FoField(isNullable = false)
+        Line getMain();
+
+        Basket setMain(Line value);
+
+        @FoField(itemType = Line.class)
+        List<Line> getLines();
+
+        Basket setLines(List<Line> value);
+    }
+
+    @FoType(fieldOrder = {"code"})
+    interface Currency extends FusionBean
+    {
+        @FoField(range = "3", regex = "[A-Z]+")
+        String getCode();
+
+        Currency setCode(String value);
+    }
+
+    @Test
+    void regex() {
+        var type = (FusionBeanObjectType<Currency>) Fusion.fobType(Currency.class);
+        var domain = type.schema().fields().get(0).domain();
+        assertEquals(new FusionValueType.PatternRange(3, null, "[A-Z]+"), domain._compiledRange());
+        assertEquals("EUR", type.make().setCode("EUR").getCode());
+        var e = assertThrows(IllegalArgumentException.class, () -> type.make().setCode("eur"));
+        assertEquals("does not match [A-Z]+: eur", e.getCause().getMessage());
+        assertThrows(IllegalArgumentException.class, () -> type.make().setCode("EU"));
+        assertThrows(IOException.class, () -> type.read("{\"code\":\"Usd\"}"));
+    }
+
+    @Test
+    void collectAll() {
+        var lineType = (FusionBeanObjectType<Line>) Fusion.fobType(Line.class);
+        var basketType = (FusionBeanObjectType<Basket>) Fusion.fobType(Basket.class);
+        var line = lineType.make().setSku("a").setQty(1);
+        var basket = basketType.make().setLines(List.of(line));
+        assertThrows(IllegalArgumentException.class, () -> basket.setName("too long"));
+
+        var validator = basketType.validator();
+        var errors = validator.validate(basket, FusionObjectValidator.Mode.COLLECT_ALL);
+        assertEquals(List.of("name: cannot be null", "main: cannot be null"), errors);
+        var e = assertThrows(FusionDataType.ValidationException.class,
+                             () -> validator.validate(basket, FusionObjectValidator.Mode.FAIL_FAST));
+        assertEquals(List.of("name: cannot be null"), e.getErrors());
+        e = assertThrows(FusionDataType.ValidationException.class, basket::doneWrite);
+        assertEquals(errors, e.getErrors());
+
+        basket.setName("ok").setMain(line);
+        assertTrue(validator.validate(basket, FusionObjectValidator.Mode.COLLECT_ALL).isEmpty());
+        assertDoesNotThrow(basket::ensureReadonly);
+    }
+
+    @Test
+    void batch() {
+        var lineType = (FusionBeanObjectType<Line>) Fusion.fobType(Line.class);
+        var fobs = List.of(lineType.make().setSku("a").setQty(1), lineType.make().setQty(100),
+                           lineType.make().setSku("c").setQty(5), lineType.make());
+        var report = FusionObjectValidator.validateAll(fobs, FusionObjectValidator.Mode.COLLECT_ALL);
+        assertFalse(report.isValid());
+        assertEquals(4, report.count());
+        assertEquals(List.of(1, 3), List.copyOf(report.errors().keySet()));
+        assertEquals(List.of("sku: cannot be null"), report.errors().get(1));
+        assertEquals(List.of("sku: cannot be null", "qty: cannot be null"), report.errors().get(3));
+
+        report = FusionObjectValidator.validateAll(fobs, FusionObjectValidator.Mode.FAIL_FAST);
+        assertEquals(List.of("sku: cannot be null"), report.errors().get(3));
+        assertTrue(FusionObjectValidator.validateAll(List.of(fobs.get(0), fobs.get(2)),
+                                                     FusionObjectValidator.Mode.FAIL_FAST).isValid());
+    }
+}
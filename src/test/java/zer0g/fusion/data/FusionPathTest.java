@@ -0,0 +1,144 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static zer0g.fusion.data.NoCaseString.nocase;
+
+class FusionPathTest
+{
+    @FoType(fieldOrder = {"sku", "qty"})
+    interface Line extends FusionBean
+    {
+        String getSku();
+
+        Line setSku(String value);
+
+        Integer getQty();
+
+        Line setQty(Integer value);
+    }
+
+    @FoType(fieldOrder = {"id", "tags", "attrs", "lines", "main"})
+    interface Order extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        Order setId(Long value);
+
+        List<String> getTags();
+
+        Order setTags(List<String> value);
+
+        Map<NoCaseString, String> getAttrs();
+
+        Order setAttrs(Map<NoCaseString, String> value);
+
+        List<Line> getLines();
+
+        Order setLines(List<Line> value);
+
+        Line getMain();
+
+        Order setMain(Line value);
+    }
+
+    private static Line line(String sku, int qty) {
+        return (Line) ((Line) Fusion.fobType(Line.class).make()).setSku(sku).setQty(qty).ensureReadonly();
+    }
+
+    private static Order order() {
+        var main = ((Line) Fusion.fobType(Line.class).make()).setSku("main").setQty(1);
+        return ((Order) Fusion.fobType(Order.class).make())
+              .setId(7L)
+              .setTags(List.of("a", "b", "c"))
+              .setAttrs(Map.of(nocase("color"), "red", nocase("x.y"), "dotted"))
+              .setLines(List.of(line("s1", 10), line("s2", 20), line("s3", 30)))
+              .setMain(main);
+    }
+
+    private static List<Object> all(String expr, FusionObject fob) {
+        return FusionPath.compile(expr).getAll(fob).stream().map(FusionValue::get).toList();
+    }
+
+    @Test
+    void get() {
+        var order = order();
+        assertEquals(7L, FusionPath.compile("ID").get(order));
+        assertEquals("b", FusionPath.compile("tags[1]").get(order));
+        assertEquals("c", FusionPath.compile("tags[-1]").get(order));
+        assertEquals("c", FusionPath.compile("tags.2").get(order));
+        assertNull(FusionPath.compile("tags[3]").get(order));
+        assertEquals("red", FusionPath.compile("attrs.COLOR").get(order));
+        assertEquals("dotted", FusionPath.compile("attrs[\"x.y\"]").get(order));
+        assertEquals("dotted", FusionPath.compile("attrs['X.Y']").get(order));
+        assertNull(FusionPath.compile("attrs.size").get(order));
+        assertEquals("s2", FusionPath.compile("lines[1].sku").get(order));
+        assertEquals(30, FusionPath.compile("lines[-1].qty").get(order));
+        assertEquals("main", FusionPath.compile("main.sku").get(order));
+        assertEquals("s1", order.get(Path.of("lines", "0", "sku")));
+
+        var lineType = Fusion.fobType(Order.class);
+        var path = FusionPath.compile("lines[0].qty", lineType);
+        assertTrue(path.isSingleValued());
+        var values = path.getfv(List.of(order, order().setLines(List.of())));
+        assertEquals(FusionValue.from(10), values[0]);
+        assertEquals(FusionValue.NULL, values[1]);
+        assertNull(FusionPath.compile("main.qty").get(order.setMain(null)));
+
+        assertThrows(IllegalArgumentException.class, () -> FusionPath.compile("nope", lineType));
+        assertThrows(IllegalArgumentException.class, () -> FusionPath.compile("id.x").get(order));
+        assertThrows(IllegalArgumentException.class, () -> FusionPath.compile("tags.x").get(order));
+        assertThrows(IllegalArgumentException.class, () -> FusionPath.compile("lines[*].qty").get(order));
+        for (String bad : new String[]{"", "a.", ".a", "a..b", "a[", "a[x]", "a[1]b", "a['k'", "a]"}) {
+            assertThrows(IllegalArgumentException.class, () -> FusionPath.compile(bad), bad);
+        }
+    }
+
+    @Test
+    void multi() {
+        var order = order();
+        assertFalse(FusionPath.compile("lines[*].qty").isSingleValued());
+        assertEquals(List.of(10, 20, 30), all("lines[*].qty", order));
+        assertEquals(List.of(10, 20, 30), all("lines.*.qty", order));
+        assertEquals(List.of("s2", "s3"), all("lines[1:].sku", order));
+        assertEquals(List.of("a", "b"), all("tags[:-1]", order));
+        assertEquals(List.of(), all("tags[5:9]", order));
+        assertEquals(List.of("red", "dotted"), all("attrs[*]", order));
+        assertEquals(List.of("main", 1), all("main.*", order));
+        assertEquals(5, all("*", order).size());
+    }
+
+    @Test
+    void set() {
+        var order = order();
+        FusionPath.compile("tags[0]").set(order, "z");
+        assertEquals(List.of("z", "b", "c"), order.getTags());
+        FusionPath.compile("attrs.size").set(order, "L");
+        assertEquals("L", order.getAttrs().get(nocase("size")));
+        assertEquals("red", order.getAttrs().get(nocase("color")));
+        FusionPath.compile("main.qty").set(order, 5);
+        assertEquals(5, order.getMain().getQty());
+        order.set(Path.of("tags", "2"), "y");
+        assertEquals(List.of("z", "b", "y"), order.getTags());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> FusionPath.compile("tags[3]").set(order, "x"));
+        assertThrows(IllegalArgumentException.class, () -> FusionPath.compile("tags[*]").set(order, "x"));
+        var lines = order.getLines();
+        FusionPath.compile("lines[-2].qty").set(order, 21);
+        assertEquals(21, order.getLines().get(1).getQty());
+        assertEquals(20, lines.get(1).getQty());
+        assertTrue(order.getLines().get(1).state().isReadonly());
+        assertThrows(ClassCastException.class, () -> FusionPath.compile("lines[0].qty").set(order, "many"));
+        assertEquals(10, order.getLines().get(0).getQty());
+        order.setMain(null);
+        assertThrows(IllegalArgumentException.class, () -> FusionPath.compile("main.qty").set(order, 1));
+        order.ensureReadonly();
+        assertThrows(IllegalStateException.class, () -> FusionPath.compile("id").set(order, 8L));
+    }
+}
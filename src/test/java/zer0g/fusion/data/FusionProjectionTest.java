@@ -0,0 +1,164 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static zer0g.fusion.data.NoCaseString.nocase;
+
+class FusionProjectionTest
+{
+    @FoType(fieldOrder = {"sku", "qty", "note"})
+    interface Item extends FusionBean
+    {
+        String getSku();
+
+        Item setSku(String value);
+
+        int getQty();
+
+        Item setQty(int value);
+
+        String getNote();
+
+        Item setNote(String value);
+    }
+
+    @FoType(fieldOrder = {"id", "kind", "payload", "attrs", "items", "first", "count"})
+    interface Event extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        Event setId(Long value);
+
+        String getKind();
+
+        Event setKind(String value);
+
+        String getPayload();
+
+        Event setPayload(String value);
+
+        Map<NoCaseString, String> getAttrs();
+
+        Event setAttrs(Map<NoCaseString, String> value);
+
+        @FoField(itemType = Item.class)
+        List<Item> getItems();
+
+        Event setItems(List<Item> value);
+
+        Item getFirst();
+
+        Event setFirst(Item value);
+
+        int getCount();
+
+        Event setCount(int value);
+    }
+
+    private static FusionBeanObjectType<Event> type() {
+        return (FusionBeanObjectType<Event>) Fusion.fobType(Event.class);
+    }
+
+    private static Item item(String sku, int qty) {
+        return (Item) ((Item) Fusion.fobType(Item.class).make()).setSku(sku).setQty(qty).setNote("n{" + sku + "}")
+                                                                .ensureReadonly();
+    }
+
+    private static Event event(long id) {
+        return (Event) ((Event) type().make()).setId(id)
+                                             .setKind("k" + id)
+                                             .setPayload("{[not json]}, 1e9")
+                                             .setAttrs(Map.of(nocase("a"), "1", nocase("b"), "}"))
+                                             .setItems(List.of(item("s1", 1), item("s2", 2)))
+                                             .setFirst(item("f", 9))
+                                             .setCount(3)
+                                             .ensureReadonly();
+    }
+
+    @Test
+    void read() throws IOException {
+        var full = event(1);
+        var json = full.toJsonString();
+        var projection = FusionProjection.of(type(), "kind", "items.sku", "COUNT");
+        assertTrue(projection.includes("Kind"));
+        assertFalse(projection.includes("payload"));
+
+        var partial = type().read(json, projection);
+        assertTrue(partial.state().isReadonly());
+        assertSame(projection, partial.projection());
+        assertNull(full.projection());
+        assertNull(partial.getId());
+        assertNull(partial.getPayload());
+        assertNull(partial.getAttrs());
+        assertNull(partial.getFirst());
+        assertEquals("k1", partial.getKind());
+        assertEquals(3, partial.getCount());
+        assertEquals(List.of("s1", "s2"), partial.getItems().stream().map(Item::getSku).toList());
+        assertEquals(FusionValue.NULL, partial.getItems().get(0).getfv(1));
+        assertNull(partial.getItems().get(1).getNote());
+        assertEquals("{\"kind\":\"k1\",\"items\":[{\"sku\":\"s1\"},{\"sku\":\"s2\"}],\"count\":3}",
+                     partial.toJsonString());
+
+        var whole = type().read(json, FusionProjection.of(type(), "first", "first.sku", "id"));
+        assertEquals(full.getFirst(), whole.getFirst());
+        assertEquals(1L, whole.getId());
+        assertEquals(FusionValue.NULL, whole.getfv(6));
+    }
+
+    @Test
+    void clones() throws IOException {
+        var itemType = (FusionBeanObjectType<Item>) Fusion.fobType(Item.class);
+        var projection = FusionProjection.of(itemType, "sku", "qty");
+        var partial = itemType.read(item("a", 2).toJsonString(), projection);
+        assertSame(partial, partial.cloneForRead());
+        assertSame(projection, partial.projection());
+
+        var writable = (Item) partial.cloneForWrite();
+        assertNull(writable.projection());
+        writable.setNote("kept");
+        assertEquals("{\"sku\":\"a\",\"qty\":2,\"note\":\"kept\"}", writable.toJsonString());
+        assertNull(((Item) partial.cloneForInit()).projection());
+        assertEquals("{\"sku\":\"a\",\"qty\":2}", partial.toJsonString());
+    }
+
+    @Test
+    void stream() throws IOException {
+        var ndjson = new StringBuilder();
+        for (long id = 0; id < 5; id++) {
+            ndjson.append(event(id).toJsonString()).append('\n');
+        }
+        var projection = FusionProjection.of(type(), "id");
+        var reader = new JsonReader(new BufferedReader(new StringReader(ndjson.toString())));
+        for (long id = 0; id < 5; id++) {
+            assertEquals(id, ((Event) reader.readProjected(projection)).getId());
+        }
+        assertNull(reader.readProjected(projection));
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> FusionProjection.of(type(), "nope"));
+        assertThrows(IllegalArgumentException.class, () -> FusionProjection.of(type(), "kind.x"));
+        var other = FusionProjection.of(Fusion.fobType(Item.class), "sku");
+        assertThrows(IllegalArgumentException.class, () -> type().read("{}", other));
+
+        var projection = FusionProjection.of(type(), "kind", "count");
+        assertThrows(IOException.class, () -> type().read("{\"kind\":\"k\",\"count\":null}", projection));
+        assertThrows(IOException.class, () -> type().read("{\"payload\":[1,2", projection));
+        assertThrows(IOException.class, () -> type().read("{\"payload\":tru$}", projection));
+        assertThrows(IOException.class, () -> type().read("{\"payload\":,\"kind\":\"k\"}", projection));
+        assertThrows(IOException.class, () -> type().read("{\"bogus\":1}", projection));
+        var skipped = "{\"payload\":\"a\\\"}\\\\\",\"attrs\":{\"x\":[{\"y\":[]},-1.5e3,true]},\"count\":2}";
+        assertEquals(2, assertDoesNotThrow(() -> type().read(skipped, projection)).getCount());
+        // Unprojected values are not validated, only skipped.
+        assertDoesNotThrow(() -> type().read("{\"id\":\"not a number\",\"count\":1}", projection));
+    }
+}
@@ -0,0 +1,180 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static zer0g.fusion.data.FusionQuery.Aggregate.*;
+import static zer0g.fusion.data.FusionQuery.Op.*;
+
+class FusionQueryTest
+{
+    enum Channel
+    {
+        WEB, STORE, PHONE
+    }
+
+    @FoType(fieldOrder = {"id", "region", "channel", "units", "amount", "day", "at", "paid"})
+    interface Sale extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        Sale setId(Long value);
+
+        String getRegion();
+
+        Sale setRegion(String value);
+
+        Channel getChannel();
+
+        Sale setChannel(Channel value);
+
+        Integer getUnits();
+
+        Sale setUnits(Integer value);
+
+        Double getAmount();
+
+        Sale setAmount(Double value);
+
+        LocalDate getDay();
+
+        Sale setDay(LocalDate value);
+
+        Instant getAt();
+
+        Sale setAt(Instant value);
+
+        Boolean getPaid();
+
+        Sale setPaid(Boolean value);
+    }
+
+    private static final String[] REGIONS = {"north", "south", "east", "west"};
+    private static final LocalDate DAY0 = LocalDate.of(2024, 1, 1);
+    private static final int ROWS = FusionQuery.SEGMENT_ROWS * 2 + 123;
+
+    private static FusionBeanObjectType<Sale> type() {
+        return (FusionBeanObjectType<Sale>) Fusion.fobType(Sale.class);
+    }
+
+    private static Sale sale(long id) {
+        return (Sale) type().make()
+                            .setId(id)
+                            .setRegion(id % 11 == 0 ? null : REGIONS[(int) (id % REGIONS.length)])
+                            .setChannel(Channel.values()[(int) (id % 3)])
+                            .setUnits(id % 7 == 0 ? null : (int) (id % 50))
+                            .setAmount((id % 100) / 4.0)
+                            .setDay(DAY0.plusDays(id % 30))
+                            .setAt(Instant.ofEpochSecond(1_700_000_000L, id))
+                            .setPaid(id % 5 != 0)
+                            .ensureReadonly();
+    }
+
+    private static List<Sale> SALES;
+    private static FusionTable<Sale> TABLE;
+
+    @BeforeEach
+    void load() {
+        if (TABLE == null) {
+            SALES = new ArrayList<>();
+            TABLE = new FusionTable<>(type());
+            for (long id = 0; id < ROWS; id++) {
+                var sale = sale(id);
+                SALES.add(sale);
+                TABLE.add(sale);
+            }
+        }
+    }
+
+    private static List<Long> ids(List<Sale> sales) {
+        return sales.stream().map(Sale::getId).toList();
+    }
+
+    private static List<Long> expected(Predicate<Sale> predicate) {
+        return ids(SALES.stream().filter(predicate).toList());
+    }
+
+    @Test
+    void filters() {
+        assertEquals(expected(s -> s.getUnits() != null && s.getUnits() >= 40),
+                     ids(TABLE.query().where("units", GE, 40).list()));
+        assertEquals(expected(s -> s.getUnits() != null && s.getUnits() != 3),
+                     ids(TABLE.query().where("units", NE, 3).list()));
+        assertEquals(expected(s -> s.getAmount() < 1.5), ids(TABLE.query().where("amount", LT, 1.5).list()));
+        assertEquals(expected(s -> "east".equals(s.getRegion()) && s.getDay().isAfter(DAY0.plusDays(27))),
+                     ids(TABLE.query().where("region", EQ, "east").where("day", GT, DAY0.plusDays(27)).list()));
+        assertEquals(expected(s -> s.getRegion() != null && s.getRegion().compareTo("s") > 0),
+                     ids(TABLE.query().where("region", GT, "s").list()));
+        assertEquals(expected(s -> s.getChannel() == Channel.PHONE && !s.getPaid()),
+                     ids(TABLE.query().where("channel", EQ, Channel.PHONE).where("paid", EQ, false).list()));
+        assertEquals(expected(s -> s.getAt().getNano() <= 5),
+                     ids(TABLE.query().where("at", LE, Instant.ofEpochSecond(1_700_000_000L, 5)).list()));
+        assertEquals(expected(s -> s.getRegion() == null), ids(TABLE.query().whereNull("region").list()));
+        assertEquals(0, TABLE.query().where("region", EQ, "nowhere").count());
+        assertEquals(0, TABLE.query().where("units", LT, Integer.MIN_VALUE).count());
+        assertArrayEquals(TABLE.query().where("units", GE, 40).select(),
+                          TABLE.query().parallel(false).where("units", GE, 40).select());
+        assertThrows(IllegalArgumentException.class, () -> TABLE.query().where("units", EQ, null));
+    }
+
+    @Test
+    void aggregates() {
+        var units = SALES.stream().map(Sale::getUnits).filter(u -> u != null).toList();
+        var query = TABLE.query();
+        assertEquals(FusionValue.from((long) ROWS), query.aggregate(COUNT, null));
+        assertEquals(FusionValue.from((long) units.size()), query.aggregate(COUNT, "units"));
+        assertEquals(FusionValue.from(units.stream().mapToLong(u -> u).sum()), query.aggregate(SUM, "units"));
+        assertEquals(units.stream().mapToLong(u -> u).average().orElseThrow(),
+                     (Double) query.aggregate(AVG, "units").get(), 1e-9);
+        assertEquals(0, (Integer) query.aggregate(MIN, "units").get());
+        assertEquals(49, (Integer) query.aggregate(MAX, "units").get());
+        assertEquals(SALES.stream().mapToDouble(Sale::getAmount).sum(),
+                     (Double) query.aggregate(SUM, "amount").get(), 1e-6);
+        assertEquals(DAY0.plusDays(29), query.aggregate(MAX, "day").get());
+        assertEquals(Instant.ofEpochSecond(1_700_000_000L, ROWS - 1), query.aggregate(MAX, "at").get());
+        assertEquals("east", query.aggregate(MIN, "region").get());
+
+        var none = TABLE.query().where("units", GT, 1000);
+        assertEquals(FusionValue.from(0L), none.aggregate(COUNT, null));
+        assertEquals(FusionValue.NULL, none.aggregate(SUM, "units"));
+        assertEquals(FusionValue.NULL, none.aggregate(MIN, "region"));
+
+        assertThrows(IllegalArgumentException.class, () -> query.aggregate(SUM, "region"));
+        assertThrows(IllegalArgumentException.class, () -> query.aggregate(AVG, "day"));
+        assertThrows(IllegalArgumentException.class, () -> query.aggregate(MAX, null));
+    }
+
+    @Test
+    void groupBy() {
+        Map<String, Long> expected = SALES.stream()
+                                          .filter(Sale::getPaid)
+                                          .collect(Collectors.groupingBy(
+                                                s -> String.valueOf(s.getRegion()), TreeMap::new,
+                                                Collectors.summingLong(s -> s.getUnits() == null ? 0 : s.getUnits())));
+        var actual = TABLE.query().where("paid", EQ, true).groupBy("region", SUM, "units");
+        assertEquals(FusionValue.NULL, actual.firstKey());
+        assertEquals(expected.size(), actual.size());
+        actual.forEach((region, sum) -> assertEquals(expected.get(String.valueOf(region.get())), sum.get()));
+
+        var byChannel = TABLE.query().groupBy("channel", COUNT, null);
+        assertEquals(List.of(Channel.WEB, Channel.STORE, Channel.PHONE),
+                     byChannel.keySet().stream().map(FusionValue::get).toList());
+        assertEquals(ROWS, byChannel.values().stream().mapToLong(v -> (Long) v.get()).sum());
+
+        var maxByDay = TABLE.query().where("day", LT, DAY0.plusDays(2)).groupBy("day", MAX, "amount");
+        assertEquals(2, maxByDay.size());
+        assertEquals(SALES.stream().filter(s -> s.getDay().equals(DAY0)).mapToDouble(Sale::getAmount).max().orElseThrow(),
+                     maxByDay.get(FusionValue.from(DAY0)).get());
+    }
+}
@@ -0,0 +1,176 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static zer0g.fusion.data.NoCaseString.nocase;
+
+class FusionSchemaResolutionTest
+{
+    enum Status
+    {
+        NEW, DONE
+    }
+
+    @FoType(fieldOrder = {"id", "name", "legacy", "qty", "status"})
+    interface OrderV1 extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        OrderV1 setId(Long value);
+
+        String getName();
+
+        OrderV1 setName(String value);
+
+        List<String> getLegacy();
+
+        OrderV1 setLegacy(List<String> value);
+
+        Integer getQty();
+
+        OrderV1 setQty(Integer value);
+
+        Status getStatus();
+
+        OrderV1 setStatus(Status value);
+    }
+
+    @FoType(fieldOrder = {"id", "region", "qty", "name", "status", "priority"})
+    interface OrderV2 extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        OrderV2 setId(Long value);
+
+        @FoField(defval = "\"eu\"")
+        String getRegion();
+
+        OrderV2 setRegion(String value);
+
+        BigDecimal getQty();
+
+        OrderV2 setQty(BigDecimal value);
+
+        String getName();
+
+        OrderV2 setName(String value);
+
+        String getStatus();
+
+        OrderV2 setStatus(String value);
+
+        int getPriority();
+
+        OrderV2 setPriority(int value);
+    }
+
+    @FoType(fieldOrder = {"id", "name"})
+    interface OrderBadType extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        OrderBadType setId(Long value);
+
+        Integer getName();
+
+        OrderBadType setName(Integer value);
+    }
+
+    @FoType(fieldOrder = {"id", "code"})
+    interface OrderBadKey extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        OrderBadKey setId(Long value);
+
+        @FoField(isKey = true)
+        String getCode();
+
+        OrderBadKey setCode(String value);
+    }
+
+    private static FusionObjectTypeBase<OrderV2> v2() {
+        return (FusionObjectTypeBase<OrderV2>) Fusion.fobType(OrderV2.class);
+    }
+
+    private static String v1Json(long id) {
+        return ((OrderV1) Fusion.fobType(OrderV1.class).make()).setId(id)
+                                                               .setName("o" + id)
+                                                               .setLegacy(List.of("a", "{b}"))
+                                                               .setQty(3)
+                                                               .setStatus(Status.DONE)
+                                                               .toJsonString();
+    }
+
+    @Test
+    void resolve() throws IOException {
+        var writer = Fusion.fobType(OrderV1.class).schema();
+        var resolution = FusionSchemaResolution.of(writer, v2());
+        assertSame(resolution, FusionSchemaResolution.of(writer, v2()));
+        assertEquals(List.of(nocase("legacy")), resolution.removed());
+        assertEquals(List.of(nocase("region"), nocase("priority")), resolution.added());
+
+        var order = v2().read(v1Json(7), writer);
+        assertTrue(order.state().isReadonly());
+        assertEquals(7L, order.getId());
+        assertEquals("o7", order.getName());
+        assertEquals(new BigDecimal(3), order.getQty());
+        assertEquals("DONE", order.getStatus());
+        assertEquals("eu", order.getRegion());
+        assertEquals(0, order.getPriority());
+
+        var ndjson = new StringBuilder();
+        for (long id = 0; id < 3; id++) {
+            ndjson.append(v1Json(id)).append('\n');
+        }
+        // Out-of-order and unknown keys are still resolved by name.
+        ndjson.append("{\"name\":\"x\",\"bogus\":[1],\"id\":9,\"priority\":2}\n");
+        var reader = new JsonReader(new BufferedReader(new StringReader(ndjson.toString())));
+        for (long id = 0; id < 3; id++) {
+            assertEquals("o" + id, ((OrderV2) reader.readResolved(resolution)).getName());
+        }
+        var last = (OrderV2) reader.readResolved(resolution);
+        assertEquals(9L, last.getId());
+        assertEquals(2, last.getPriority());
+        assertNull(last.getQty());
+        assertNull(reader.readResolved(resolution));
+    }
+
+    @Test
+    void lenient() throws IOException {
+        var resolution = FusionSchemaResolution.lenient(v2());
+        assertEquals(List.of(), resolution.added());
+        var order = v2().read(v1Json(1), (FusionObjectSchema) null);
+        assertEquals("o1", order.getName());
+        assertEquals("eu", order.getRegion());
+        assertEquals(new BigDecimal(3), order.getQty());
+
+        // Switching writer-schemas between reads switches resolutions.
+        var writer = Fusion.fobType(OrderV1.class).schema();
+        assertEquals("o1", v2().read(v1Json(1), writer).getName());
+        assertEquals(2, v2().read("{\"id\":1,\"priority\":2}", (FusionObjectSchema) null).getPriority());
+        assertEquals("o2", v2().read(v1Json(2), writer).getName());
+    }
+
+    @Test
+    void incompatible() {
+        var writer = Fusion.fobType(OrderV1.class).schema();
+        assertThrows(IllegalArgumentException.class,
+                     () -> FusionSchemaResolution.of(writer, Fusion.fobType(OrderBadType.class)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> FusionSchemaResolution.of(writer, Fusion.fobType(OrderBadKey.class)));
+        assertThrows(IOException.class, () -> v2().read("{\"id\":null}", writer));
+        assertThrows(IOException.class, () -> v2().read("{\"id\":1,\"qty\":\"x\"}", writer));
+    }
+}
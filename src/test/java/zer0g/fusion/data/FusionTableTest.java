@@ -0,0 +1,149 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusionTableTest
+{
+    enum Side
+    {
+        BUY, SELL
+    }
+
+    @FoType(fieldOrder = {"id", "symbol", "side", "qty", "price", "fee", "paid", "day", "at", "local", "age"})
+    interface Trade extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        Trade setId(Long value);
+
+        String getSymbol();
+
+        Trade setSymbol(String value);
+
+        Side getSide();
+
+        Trade setSide(Side value);
+
+        Integer getQty();
+
+        Trade setQty(Integer value);
+
+        Double getPrice();
+
+        Trade setPrice(Double value);
+
+        BigDecimal getFee();
+
+        Trade setFee(BigDecimal value);
+
+        Boolean getPaid();
+
+        Trade setPaid(Boolean value);
+
+        LocalDate getDay();
+
+        Trade setDay(LocalDate value);
+
+        Instant getAt();
+
+        Trade setAt(Instant value);
+
+        LocalDateTime getLocal();
+
+        Trade setLocal(LocalDateTime value);
+
+        Duration getAge();
+
+        Trade setAge(Duration value);
+    }
+
+    private static FusionBeanObjectType<Trade> type() {
+        return (FusionBeanObjectType<Trade>) Fusion.fobType(Trade.class);
+    }
+
+    private static Trade trade(long id) {
+        var at = Instant.ofEpochSecond(1_700_000_000L + id, id * 1000 + 1);
+        return (Trade) type().make()
+                             .setId(id)
+                             .setSymbol(id % 2 == 0 ? "ACME" : "INIT")
+                             .setSide(id % 3 == 0 ? Side.SELL : Side.BUY)
+                             .setQty((int) id * 10)
+                             .setPrice(id / 4.0)
+                             .setFee(new BigDecimal("0.25"))
+                             .setPaid(id % 2 == 1)
+                             .setDay(LocalDate.of(2024, 1, 1).plusDays(id))
+                             .setAt(at)
+                             .setLocal(LocalDateTime.of(1969, 12, 31, 23, 59, 59, (int) id))
+                             .setAge(Duration.ofMillis(-id))
+                             .ensureReadonly();
+    }
+
+    @Test
+    void rows() {
+        var table = new FusionTable<>(type(), 2);
+        for (long id = 0; id < 100; id++) {
+            table.add(trade(id));
+        }
+        table.add((Trade) type().make().setId(100L).ensureReadonly());
+        assertEquals(101, table.size());
+        for (int row = 0; row < 100; row++) {
+            var fob = table.get(row);
+            assertTrue(fob.state().isReadonly());
+            assertEquals(trade(row), fob);
+            assertEquals(trade(row).toJsonString(), fob.toJsonString());
+        }
+        var sparse = table.get(100);
+        assertEquals(100L, sparse.getId());
+        assertNull(sparse.getSymbol());
+        assertNull(sparse.getPaid());
+        assertNull(sparse.getAt());
+        assertEquals("ACME", table.getfv(2, "SYMBOL").get());
+        assertSame(table.getfv(2, "symbol"), table.getfv(4, "symbol"));
+        assertEquals(FusionValue.NULL, table.getfv(100, "fee"));
+        assertThrows(IndexOutOfBoundsException.class, () -> table.get(101));
+        assertThrows(IllegalStateException.class, () -> table.add(type().make().setId(1L)));
+        assertThrows(UnsupportedOperationException.class, () -> table.remove(0));
+
+        table.clear();
+        assertTrue(table.isEmpty());
+        table.add(trade(7));
+        assertEquals(trade(7), table.get(0));
+    }
+
+    @Test
+    void json() throws IOException {
+        var table = new FusionTable<>(type());
+        for (long id = 0; id < 50; id++) {
+            table.add(trade(id));
+        }
+        var out = new StringWriter();
+        table.writeJson(out);
+        var ndjson = out.toString();
+        assertEquals(50, ndjson.lines().count());
+        assertEquals(trade(0).toJsonString(), ndjson.lines().findFirst().orElseThrow());
+
+        var copy = new FusionTable<>(type());
+        assertEquals(50, copy.appendJson(new StringReader(ndjson)));
+        assertEquals(table, copy);
+        var again = new StringWriter();
+        copy.writeJson(again);
+        assertEquals(ndjson, again.toString());
+
+        assertEquals(0, copy.appendJson(new StringReader(" \n")));
+        var bad = trade(1).toJsonString() + "\n{\"symbol\":\"X\"}\n";
+        assertThrows(IOException.class, () -> copy.appendJson(new StringReader(bad)));
+        assertEquals(51, copy.size());
+    }
+}
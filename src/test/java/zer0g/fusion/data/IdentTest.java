@@ -0,0 +1,76 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentTest
+{
+    @Test
+    void parts() {
+        var ident = new Ident("Orders.EU.paris");
+        assertEquals(3, ident.count());
+        assertEquals("Orders", ident.head().toString());
+        assertEquals("EU", ident.getPart(1).toString());
+        assertEquals("paris", ident.getPart(2).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> ident.getPart(3));
+        assertEquals(List.of("Orders", "EU", "paris"), ident.split().stream().map(Ident::toString).toList());
+
+        var tail = ident.tail();
+        assertEquals("EU.paris", tail.toString());
+        assertEquals(2, tail.count());
+        assertEquals("paris", tail.tail().toString());
+        assertNull(tail.tail().tail());
+        assertEquals("Orders.EU", ident.head(2).toString());
+        assertEquals("EU", tail.head(1).toString());
+        assertSame(ident, ident.head(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> ident.head(4));
+        assertTrue(ident.head(2).isPrefixOf(ident));
+        assertFalse(ident.tail().isPrefixOf(ident));
+    }
+
+    @Test
+    void equalsIgnoringCase() {
+        var views = new Ident("a.orders.EU").tail();
+        var whole = new Ident("ORDERS.eu");
+        assertEquals(whole, views);
+        assertEquals(whole.hashCode(), views.hashCode());
+        assertEquals(0, whole.compareTo(views));
+        assertEquals(new Ident.Simple("eu"), views.getPart(1));
+        assertTrue(new Ident("a.b").compareTo(new Ident("A.c")) < 0);
+        assertTrue(new Ident("a").compareTo(new Ident("a.b")) < 0);
+        assertNotEquals(new Ident("ab"), new Ident("a.b").head());
+    }
+
+    @Test
+    void intern() {
+        var ident = Ident.intern("route.orders.eu");
+        assertSame(ident, Ident.intern("route.orders.eu"));
+        assertSame(ident, new Ident("route.orders.eu").intern());
+        assertNotSame(ident, Ident.intern("Route.Orders.EU"));
+        assertEquals(ident, Ident.intern("Route.Orders.EU"));
+        assertNull(Ident.intern(""));
+
+        // Views are pooled as compact copies, not as themselves.
+        var tail = new Ident("internview.long.prefix.tail.end").tail().tail().tail();
+        var pooledTail = tail.intern();
+        assertNotSame(tail, pooledTail);
+        assertEquals(tail, pooledTail);
+        assertSame(pooledTail, Ident.intern("tail.end"));
+        assertSame(pooledTail, tail.intern());
+        var head = new Ident("internhead.rest").head();
+        var pooledHead = head.intern();
+        assertNotSame(head, pooledHead);
+        assertInstanceOf(Ident.Simple.class, pooledHead);
+        assertEquals(head, pooledHead);
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new Ident("a..b"));
+        assertThrows(IllegalArgumentException.class, () -> new Ident("1a"));
+        assertThrows(IllegalArgumentException.class, () -> new Ident.Simple("a.b"));
+    }
+}
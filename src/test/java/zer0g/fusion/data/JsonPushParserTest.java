@@ -0,0 +1,136 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonPushParserTest
+{
+    @FoType(fieldOrder = {"id", "text"})
+    interface Message extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        Message setId(Long value);
+
+        String getText();
+
+        Message setText(String value);
+    }
+
+    private static void feed(JsonPushParser parser, String input, int chunkSize) throws IOException {
+        var bytes = input.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            var chunk = ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i));
+            parser.feed(chunk);
+            assertFalse(chunk.hasRemaining());
+        }
+    }
+
+    @Test
+    void fobs() throws IOException {
+        var ndjson = "{\"id\":1,\"text\":\"h\u00e9llo {[\\\"]}\"}\n{\"id\":2,\"text\":\"\u65e5\u672c\"}\r\n\n" +
+                     "{\"id\":3,\"text\":null}{\"id\":4,\"text\":\"\\\\\"}\nnull\n";
+        for (int chunkSize : new int[]{1, 2, 3, 7, 1000}) {
+            var messages = new ArrayList<Message>();
+            var parser = JsonPushParser.of((FusionObjectType<Message>) Fusion.fobType(Message.class), messages::add);
+            feed(parser, ndjson, chunkSize);
+            assertTrue(parser.isIdle());
+            parser.finish();
+            assertEquals(5, parser.count());
+            assertEquals(List.of(1L, 2L, 3L, 4L), messages.subList(0, 4).stream().map(Message::getId).toList());
+            assertEquals("h\u00e9llo {[\"]}", messages.get(0).getText());
+            assertEquals("\u65e5\u672c", messages.get(1).getText());
+            assertNull(messages.get(2).getText());
+            assertEquals("\\", messages.get(3).getText());
+            assertNull(messages.get(4));
+        }
+    }
+
+    @Test
+    void values() throws IOException {
+        var values = new ArrayList<FusionValue>();
+        var parser = new JsonPushParser(FusionValueType.ANY, null, values::add);
+        feed(parser, "12 true\"s\"[1,[2]] -3.5", 2);
+        assertEquals(4, values.size());
+        assertFalse(parser.isIdle());
+        parser.finish();
+        assertEquals(List.of(FusionValue.from(12), FusionValue.TRUE, FusionValue.from("s"),
+                             FusionValue.from(List.of(1, List.of(2)))), values.subList(0, 4));
+        assertEquals(-3.5, ((Number) values.get(4).get()).doubleValue());
+        assertTrue(parser.isIdle());
+    }
+
+    /**
+     * Feeds like {@link #feed}, but on each error re-feeds the rest of the chunk, as a caller that skips invalid values
+     * would.
+     */
+    private static int feedSkippingInvalid(JsonPushParser parser, String input) {
+        int errors = 0;
+        var chunk = ByteBuffer.wrap(input.getBytes(StandardCharsets.UTF_8));
+        while (chunk.hasRemaining()) {
+            try {
+                parser.feed(chunk);
+            } catch (IOException e) {
+                errors++;
+            }
+        }
+        return errors;
+    }
+
+    @Test
+    void invalidValuesKeepFraming() throws IOException {
+        var values = new ArrayList<FusionValue>();
+        var parser = new JsonPushParser(FusionValueType.INTEGER, null, values::add);
+        assertEquals(1, feedSkippingInvalid(parser, "1\n\"x\"\n2\n[3"));
+        assertFalse(parser.isIdle());
+        assertEquals(1, feedSkippingInvalid(parser, "]\n4\n"));
+        assertEquals(2, feedSkippingInvalid(parser, "true 5{\"a\":1}6 7"));
+        parser.finish();
+        assertEquals(List.of(1L, 2L, 4L, 5L, 6L, 7L), values.stream().map(v -> ((Number) v.get()).longValue()).toList());
+        assertEquals(6, parser.count());
+
+        var messages = new ArrayList<Message>();
+        var fobs = JsonPushParser.of((FusionObjectType<Message>) Fusion.fobType(Message.class), messages::add);
+        var chunk = ByteBuffer.wrap("{\"id\":1}\n{\"bogus\":1}\n{\"id\":3}\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> fobs.feed(chunk));
+        assertEquals(List.of(1L), messages.stream().map(Message::getId).toList());
+        assertEquals("\n{\"id\":3}\n".length(), chunk.remaining());
+        fobs.feed(chunk);
+        assertEquals(List.of(1L, 3L), messages.stream().map(Message::getId).toList());
+    }
+
+    @Test
+    void errors() throws IOException {
+        var values = new ArrayList<FusionValue>();
+        var parser = new JsonPushParser(FusionValueType.ANY, null, values::add);
+        feed(parser, "[1,", 1);
+        assertThrows(EOFException.class, parser::finish);
+        assertThrows(IOException.class, () -> feed(parser, "]", 1));
+        assertThrows(IOException.class, () -> feed(parser, "[1 2]\n", 100));
+        feed(parser, "[3]", 100);
+        assertEquals(List.of(FusionValue.from(List.of(3))), values);
+
+        var single = new JsonPushParser(FusionValueType.ANY, null, values::add).singleDocument();
+        feed(single, "{\"a\":1}  \n", 3);
+        assertThrows(IOException.class, () -> feed(single, "{}", 1));
+
+        var small = new JsonPushParser(FusionValueType.ANY, null, values::add).maxValueBytes(8);
+        feed(small, "[1,2,3] ", 2);
+        assertThrows(IOException.class, () -> feed(small, "[1,2,3,4]", 2));
+        assertThrows(IllegalArgumentException.class, () -> small.maxValueBytes(0));
+
+        var messages = JsonPushParser.of((FusionObjectType<Message>) Fusion.fobType(Message.class), m -> {});
+        assertThrows(IOException.class, () -> feed(messages, "{\"text\":\"no key\"}", 4));
+        assertThrows(IOException.class, () -> feed(messages, "{\"bogus\":1}", 4));
+        assertTrue(messages.isIdle());
+    }
+}
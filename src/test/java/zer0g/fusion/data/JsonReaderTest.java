@@ -51,6 +51,23 @@ class JsonReaderTest
                                      FusionValue.from(testBeanType.make().setX(5).setY(15.5))));
     }
 
+    @Test
+    void recycler() throws IOException {
+        var testBeanType = (FusionBeanObjectType<TestBean>) Fusion.fobType(TestBean.class);
+        var recycler = testBeanType.recycler(new StringReader("{\"x\":1,\"y\":1.5}\n{\"x\":2}\n"));
+        var first = recycler.next();
+        Assertions.assertEquals(1, first.getX());
+        var kept = first.cloneForRead();
+        var second = recycler.next();
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(2, second.getX());
+        Assertions.assertEquals(0.0, second.getY());
+        Assertions.assertEquals(1, ((TestBean) kept).getX());
+        Assertions.assertNull(recycler.next());
+        Assertions.assertThrows(IllegalStateException.class, second::ensureReadonly);
+        Assertions.assertThrows(IllegalStateException.class, () -> FusionValue.from(second));
+    }
+
     private void assertEquals(FusionValue val1, FusionValue val2) {
         Assertions.assertEquals(val1, val2);
         Assertions.assertEquals(val1.get(), val2.get());
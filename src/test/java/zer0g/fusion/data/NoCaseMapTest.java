@@ -0,0 +1,104 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static zer0g.fusion.data.NoCaseString.nocase;
+
+class NoCaseMapTest
+{
+    @Test
+    void putGetRemove() {
+        var map = new NoCaseMap<Integer>();
+        for (int i = 0; i < 500; i++) {
+            assertNull(map.put(nocase("Key" + i), i));
+        }
+        assertEquals(500, map.size());
+        assertEquals(7, map.get(nocase("KEY7")));
+        assertEquals(7, map.put(nocase("key7"), 70));
+        assertEquals(70, map.get(nocase("Key7")));
+        for (int i = 0; i < 500; i += 2) {
+            assertEquals(i, map.remove(nocase("kEy" + i)));
+        }
+        assertEquals(250, map.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i % 2 != 0, map.containsKey(nocase("KEY" + i)), "key" + i);
+        }
+    }
+
+    @Test
+    void canonicalOrder() {
+        var map = new NoCaseMap<String>();
+        map.put(nocase("zeta"), "z");
+        map.put(nocase("Alpha"), "a");
+        map.put(nocase("beta"), "b");
+        List<String> keys = new ArrayList<>();
+        map.keySet().forEach(k -> keys.add(k.toString()));
+        assertEquals(List.of("Alpha", "beta", "zeta"), keys);
+
+        map.freeze();
+        assertTrue(map.isFrozen());
+        assertEquals("b", map.get(nocase("BETA")));
+        keys.clear();
+        map.entrySet().forEach(e -> keys.add(e.getKey().toString()));
+        assertEquals(List.of("Alpha", "beta", "zeta"), keys);
+        assertThrows(UnsupportedOperationException.class, () -> map.put(nocase("gamma"), "g"));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(nocase("beta")));
+    }
+
+    @Test
+    void iteratorFailsFast() {
+        var map = new NoCaseMap<String>();
+        map.put(nocase("c"), "c");
+        map.put(nocase("a"), "a");
+        map.put(nocase("b"), "b");
+        var keys = map.keySet().iterator();
+        assertEquals(nocase("a"), keys.next());
+        map.put(nocase("A"), "A");
+        assertEquals(nocase("b"), keys.next());
+        map.freeze();
+        assertThrows(ConcurrentModificationException.class, keys::next);
+
+        var other = new NoCaseMap<String>();
+        other.put(nocase("x"), "x");
+        other.put(nocase("y"), "y");
+        var entries = other.entrySet().iterator();
+        other.remove(nocase("y"));
+        assertThrows(ConcurrentModificationException.class, entries::next);
+    }
+
+    @Test
+    void fusionMapFreezesWhenReadonly() {
+        var map = new FusionMap<Integer>(new FusionValueDomain(FusionValueType.MAP, "INTEGER"));
+        map.put(nocase("b"), 2);
+        map.put(nocase("A"), 1);
+        map.ensureReadonly();
+        assertTrue(map._inner.isFrozen());
+        assertEquals(1, map.get(nocase("a")));
+        assertEquals("{\"A\":1,\"b\":2}", FusionValue.from(map).toString());
+    }
+
+    @Test
+    void freezeDoesNotReorderSharedInner() {
+        var map = new FusionMap<Integer>(new FusionValueDomain(FusionValueType.MAP, "INTEGER"));
+        map.put(nocase("c"), 3);
+        map.put(nocase("a"), 1);
+        map.put(nocase("b"), 2);
+        var clone = (FusionMap<Integer>) map.cloneForWrite();
+        var keys = clone.keySet().iterator();
+        List<String> seen = new ArrayList<>();
+        seen.add(keys.next().toString());
+        map.doneWrite();
+        keys.forEachRemaining(k -> seen.add(k.toString()));
+        assertEquals(List.of("a", "b", "c"), seen);
+        assertTrue(map._inner.isFrozen());
+        assertFalse(clone._inner.isFrozen());
+        clone.put(nocase("d"), 4);
+        assertEquals(3, map.size());
+        assertEquals(4, clone.size());
+    }
+}
@@ -0,0 +1,51 @@
+package zer0g.fusion.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringMatcherTest
+{
+    private static final List<String> REGEXES = List.of(Ident.Simple.PATTERN_STR, Ident.PATTERN_STR, "[A-Z]{2,3}-\\d+",
+                                                        "^[a-f0-9]{8}$", "a*b?c+", "x{2,}y{0,1}", "[^,;]*", "\\w+\\.\\w+",
+                                                        ".+@.+", "[-+]?\\d{1,3}", "(ab|cd)+", "[a-z&&[^x]]+",
+                                                        "a*a*a*b", "\\s*\\S+");
+    private static final List<String> INPUTS = List.of("", "a", "_x1", "abc.def", "1abc", "AB-12", "ABCD-1", "AB-",
+                                                       "deadbeef", "DEADBEEF", "deadbee", "aaabcc", "bc", "c", "xxy",
+                                                       "xy", "a,b", "no;pe", "ok ok", "x.y", "x.", "me@host",
+                                                       "@", "-12", "+123", "1234", "abcd", "axb", "aaab", "aab",
+                                                       "  tab", "\u00e9t\u00e9", "\u00e9t\u00e9.\u00e7a", "\u2028",
+                                                       "a\nb");
+
+    @Test
+    void matchesLikePattern() {
+        for (String regex : REGEXES) {
+            var pattern = Pattern.compile(regex);
+            var matcher = StringMatcher.of(regex);
+            assertSame(matcher, StringMatcher.of(regex));
+            for (String input : INPUTS) {
+                for (int pass = 0; pass < 2; pass++) {
+                    assertEquals(pattern.matcher(input).matches(), matcher.matches(input), regex + " ~ " + input);
+                }
+            }
+        }
+    }
+
+    @Test
+    void invalidRegex() {
+        assertThrows(PatternSyntaxException.class, () -> StringMatcher.of("[a-"));
+        assertThrows(IllegalArgumentException.class, () -> new FusionValueType.PatternRange(null, null, "(x"));
+    }
+
+    @Test
+    void regexValidator() {
+        var validation = new FusionDataType.Validation("regex", FusionValue.from("[a-z]+"));
+        FusionValueType.STRING.validate(FusionValue.from("abc"), validation, null);
+        assertThrows(FusionDataType.ValidationException.class,
+                     () -> FusionValueType.STRING.validate(FusionValue.from("ab1"), validation, null));
+    }
+}
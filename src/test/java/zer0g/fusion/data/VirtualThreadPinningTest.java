@@ -0,0 +1,180 @@
+package zer0g.fusion.data;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs library operations on virtual threads, contending for the library's locks and blocking while holding them, and
+ * fails on any {@code jdk.VirtualThreadPinned} event with library code on its stack.  The surefire configuration also
+ * sets {@code -Djdk.tracePinnedThreads=full}, so that the stacks of any pinned threads are printed.
+ */
+class VirtualThreadPinningTest
+{
+    private static final int THREADS = 64;
+
+    @FoType(fieldOrder = {"id", "count"})
+    interface Counter extends FusionBean
+    {
+        @FoField(isKey = true)
+        Long getId();
+
+        Counter setId(Long value);
+
+        int getCount();
+
+        Counter setCount(int value);
+
+        /**
+         * Blocks inside the library's state-transition critical section.
+         */
+        @Override
+        default void customPrepForIwrStateChange(IwrState targetState) {
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    record Point(int x, int y)
+    {
+    }
+
+    private static void runAll(ExecutorService executor, Callable<?> task) throws Exception {
+        var futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(task));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static boolean isLibraryFrame(RecordedFrame frame) {
+        var className = frame.getMethod().getType().getName();
+        return className.startsWith("zer0g.fusion.") &&
+               !className.startsWith(VirtualThreadPinningTest.class.getName());
+    }
+
+    private static boolean inLibrary(RecordedEvent event) {
+        var stack = event.getStackTrace();
+        return stack != null && stack.getFrames().stream().anyMatch(VirtualThreadPinningTest::isLibraryFrame);
+    }
+
+    private static String describe(RecordedEvent event) {
+        return event.getStackTrace().getFrames().stream().map(f -> f.getMethod().getType().getName() + "." +
+                                                                     f.getMethod().getName() + ":" + f.getLineNumber())
+                    .collect(Collectors.joining("\n  ", "pinned at:\n  ", ""));
+    }
+
+    /**
+     * @return false if another writer was still open
+     */
+    private static boolean writeOnce(Blob blob, boolean stream) throws IOException {
+        Closeable writer;
+        try {
+            writer = stream ? blob.writerStream() : blob.writerChannel();
+        } catch (IOException e) {
+            // Only one writer at a time: the others may fail with "already an unclosed writer".
+            return false;
+        }
+        try (writer) {
+            if (writer instanceof OutputStream out) {
+                out.write(1);
+            } else {
+                ((WritableByteChannel) writer).write(ByteBuffer.wrap(new byte[]{2}));
+            }
+        }
+        return true;
+    }
+
+    @Test
+    void noPinning() throws Exception {
+        var file = Files.createTempFile("fusion-pinning", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            workload();
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> pinned = RecordingFile.readAllEvents(file).stream()
+                                                       .filter(e -> e.getEventType().getName()
+                                                                     .equals("jdk.VirtualThreadPinned"))
+                                                       .filter(VirtualThreadPinningTest::inLibrary)
+                                                       .toList();
+            assertTrue(pinned.isEmpty(),
+                       () -> pinned.size() + " pinned virtual threads, e.g. " + describe(pinned.get(0)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static void workload() throws Exception {
+        var type = (FusionBeanObjectType<Counter>) Fusion.fobType(Counter.class);
+        var shared = (Counter) ((Counter) type.make()).setId(0L);
+        var set = FusionKeyedSet.hashed(type);
+        set.hashIndex("count");
+        var ids = new AtomicLong();
+        var blob = new Blob(16);
+        // Class loading and initialization hold JDK-internal monitors, so generate the record's type up front.
+        FusionRecordObjectType.of(Point.class);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            runAll(executor, () -> {
+                for (int i = 0; i < 20; i++) {
+                    // Contends for the shared fob's lock, held while its clone sleeps in its state transition.
+                    shared.setCount(i);
+                    shared.cloneForRead();
+                    var counter = (Counter) ((Counter) type.make()).setId(ids.incrementAndGet()).setCount(i);
+                    set.put((Counter) counter.ensureReadonly());
+                    assertEquals(FusionValueType.LIST, FusionValue.from(List.of(i)).type());
+                    var point = FusionRecordObjectType.of(Point.class).make();
+                    point.set("x", i);
+                    point.ensureReadonly();
+                    assertEquals(i, point.extract().x());
+                }
+                return null;
+            });
+
+            // A writer waits for the open reader while holding the blob's lock; the others wait for that lock.  Each
+            // writer is opened, used and closed by its own task, since only the thread that opened it can close it.
+            var reader = blob.readerStream();
+            var writers = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i <= THREADS; i++) {
+                boolean stream = i == 0;
+                writers.add(executor.submit(() -> writeOnce(blob, stream)));
+            }
+            Thread.sleep(50);
+            reader.close();
+            int opened = 0;
+            for (Future<Boolean> writer : writers) {
+                if (writer.get()) {
+                    opened++;
+                }
+            }
+            assertTrue(opened > 0);
+        }
+        assertEquals(THREADS * 20, set.size());
+    }
+}